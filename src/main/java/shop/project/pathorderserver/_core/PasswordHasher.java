@@ -0,0 +1,93 @@
+package shop.project.pathorderserver._core;
+
+import jakarta.annotation.PreDestroy;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 BCrypt 해시/검증 (CPU 를 많이 쓰므로 전용 스레드에서만 실행)
+// 동시에 계산하는 해시 수를 threads 로 제한, 대기열(queueSize)이 차면 바로 거절
+// 요청 스레드는 결과가 나올 때까지(최대 TIMEOUT) 기다리므로 트랜잭션 안에서 호출하지 않음 (DB 커넥션을 잡은 채 대기)
+@Component
+public class PasswordHasher {
+    private static final String BCRYPT_PREFIX = "$2"; // $2a$, $2b$, $2y$
+    private static final long TIMEOUT = 5 * 1000; // 대기열에서 기다리는 시간까지 포함
+
+    private final int cost;
+    private final String dummyHash; // 없는 아이디로 로그인할 때도 같은 시간이 걸리도록 비교할 해시
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(@Value("${password.bcrypt-cost:10}") int cost,
+                          @Value("${password.hash-threads:4}") int threads,
+                          @Value("${password.hash-queue-size:100}") int queueSize) {
+        this.cost = cost;
+        this.dummyHash = BCrypt.hashpw("dummy-password", BCrypt.gensalt(cost));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()); // 대기열이 가득 차면 RejectedExecutionException
+    }
+
+    // 회원 가입, 비밀번호 변경
+    public String hash(String rawPassword) {
+        return execute(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost)));
+    }
+
+    // 저장된 값이 BCrypt 해시가 아니면 이전 방식(평문)으로 비교
+    // 없는 아이디(storedPassword == null), 평문 비밀번호도 같은 BCrypt 비교를 거침 (응답 시간으로 아이디 존재 여부를 알 수 없도록)
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null) {
+            return false;
+        }
+        if (storedPassword == null || !isHashed(storedPassword)) {
+            execute(() -> BCrypt.checkpw(rawPassword, dummyHash));
+            return storedPassword != null
+                    && MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return execute(() -> BCrypt.checkpw(rawPassword, storedPassword));
+    }
+
+    // 평문이거나 설정된 cost 와 다르게 해시된 값이면 로그인 성공 시 다시 해시해서 저장
+    public boolean needsRehash(String storedPassword) {
+        if (!isHashed(storedPassword)) {
+            return true;
+        }
+        return !storedPassword.startsWith(String.format("$%02d$", cost), 3);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean isHashed(String storedPassword) {
+        return storedPassword.startsWith(BCRYPT_PREFIX) && storedPassword.length() == 60;
+    }
+
+    // 대기열이 가득 찼거나 TIMEOUT 안에 끝나지 않으면 RejectedExecutionException
+    private <T> T execute(Callable<T> task) {
+        Future<T> future = executor.submit(task);
+        try {
+            return future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RejectedExecutionException("비밀번호 처리 시간 초과", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("비밀번호 처리 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package shop.project.pathorderserver._core.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청 제한 설정 (application-*.yml 의 rate-limit)
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String name; // 버킷 구분용 (order, like, review, login, store-login)
+        private String pattern; // 요청 경로 패턴 (예: /api/users/*/orders)
+        private List<String> methods = new ArrayList<>(); // 비어 있으면 모든 메서드
+        private int capacity; // 한 번에 몰아서 보낼 수 있는 요청 수 (1 이상)
+        private int refillPerMinute; // 분당 다시 채워지는 요청 수 (1 이상)
+    }
+}
@@ -1,15 +1,21 @@
 package shop.project.pathorderserver._core.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 import shop.project.pathorderserver._core.interceptor.AppLoginInterceptor;
+import shop.project.pathorderserver._core.interceptor.RateLimitInterceptor;
 import shop.project.pathorderserver._core.interceptor.WebLoginInterceptor;
 
+@RequiredArgsConstructor
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitInterceptor rateLimitInterceptor;
+
     @Override
     public void addResourceHandlers(final ResourceHandlerRegistry registry) {
         WebMvcConfigurer.super.addResourceHandlers(registry);
@@ -25,6 +31,10 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new AppLoginInterceptor())
                 .addPathPatterns("/api/**");
+        if (rateLimitProperties.isEnabled() && !rateLimitProperties.getRules().isEmpty()) {
+            registry.addInterceptor(rateLimitInterceptor) // JWT 확인 뒤에 (회원 번호별로 제한)
+                    .addPathPatterns(rateLimitInterceptor.getPathPatterns());
+        }
         registry.addInterceptor(new WebLoginInterceptor())
                 .addPathPatterns("/stores/**")
                 .excludePathPatterns("/stores/login", "/stores/login-form", "/stores/join", "/stores/join-form");
@@ -38,10 +38,24 @@ public class AppExceptionHandler {
         return new ResponseEntity<>(apiUtil, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(App429.class)
+    public ResponseEntity<?> ex429(App429 e) {
+        ApiUtil<?> apiUtil = new ApiUtil<>(429, e.getMessage());
+
+        return new ResponseEntity<>(apiUtil, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(App500.class)
     public ResponseEntity<?> ex500(App500 e) {
         ApiUtil<?> apiUtil = new ApiUtil<>(500, e.getMessage());
 
         return new ResponseEntity<>(apiUtil, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    @ExceptionHandler(App503.class)
+    public ResponseEntity<?> ex503(App503 e) {
+        ApiUtil<?> apiUtil = new ApiUtil<>(503, e.getMessage());
+
+        return new ResponseEntity<>(apiUtil, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
@@ -1,8 +1,10 @@
 package shop.project.pathorderserver._core.errors;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import shop.project.pathorderserver._core.errors.exception.*;
 
 @ControllerAdvice //runtimeException 이 터지만 해당 파일로 오류가 모인다.
@@ -40,6 +42,15 @@ public class WebExceptionHandler {
         return "error";
     }
 
+    @ExceptionHandler(Web429.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public String ex429(RuntimeException e, HttpServletRequest request) {
+        request.setAttribute("msg", e.getMessage());
+        request.setAttribute("status", 429);
+
+        return "error";
+    }
+
     @ExceptionHandler(Web500.class)
     public String ex500(RuntimeException e, HttpServletRequest request) {
         request.setAttribute("msg", e.getMessage());
@@ -47,4 +58,13 @@ public class WebExceptionHandler {
 
         return "error";
     }
+
+    @ExceptionHandler(Web503.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String ex503(RuntimeException e, HttpServletRequest request) {
+        request.setAttribute("msg", e.getMessage());
+        request.setAttribute("status", 503);
+
+        return "error";
+    }
 }
@@ -0,0 +1,8 @@
+package shop.project.pathorderserver._core.errors.exception;
+
+public class App429 extends RuntimeException {
+
+    public App429(String msg) {
+        super(msg);
+    }
+}
\ No newline at end of file
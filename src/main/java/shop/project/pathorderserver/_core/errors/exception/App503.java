@@ -0,0 +1,8 @@
+package shop.project.pathorderserver._core.errors.exception;
+
+public class App503 extends RuntimeException {
+
+    public App503(String msg) {
+        super(msg);
+    }
+}
\ No newline at end of file
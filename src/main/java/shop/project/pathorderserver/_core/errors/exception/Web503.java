@@ -0,0 +1,8 @@
+package shop.project.pathorderserver._core.errors.exception;
+
+public class Web503 extends RuntimeException {
+
+    public Web503(String msg) {
+        super(msg);
+    }
+}
\ No newline at end of file
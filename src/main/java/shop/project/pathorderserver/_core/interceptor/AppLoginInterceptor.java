@@ -4,7 +4,6 @@ import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.web.servlet.HandlerInterceptor;
 import shop.project.pathorderserver._core.errors.exception.App401;
 import shop.project.pathorderserver._core.errors.exception.App500;
@@ -23,9 +22,8 @@ public class AppLoginInterceptor implements HandlerInterceptor {
 
         try {
             SessionUser sessionUser = JwtUtil.verify(jwt);
-            // 임시 세션 (jSessionId는 필요 없음)
-            HttpSession session = request.getSession();
-            session.setAttribute("sessionUser", sessionUser);
+            // 세션을 만들지 않고 요청 속성으로 전달 (요청이 끝나면 사라짐)
+            request.setAttribute("sessionUser", sessionUser);
             return true;
         } catch (TokenExpiredException e) {
             throw new App401("토큰이 만료되었습니다. 다시 로그인 하세요.");
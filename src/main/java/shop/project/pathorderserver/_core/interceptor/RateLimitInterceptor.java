@@ -0,0 +1,153 @@
+package shop.project.pathorderserver._core.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import shop.project.pathorderserver._core.config.RateLimitProperties;
+import shop.project.pathorderserver._core.errors.exception.App429;
+import shop.project.pathorderserver._core.errors.exception.Web429;
+import shop.project.pathorderserver.user.SessionUser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 경로별 요청 제한 (주문, 좋아요, 리뷰, 로그인), 로그인한 요청은 회원 번호, 아니면 IP 별로 버킷을 나눔
+// AppLoginInterceptor 뒤에 등록해야 sessionUser 요청 속성을 사용할 수 있음
+// 프록시 뒤에서는 server.forward-headers-strategy 설정이 있어야 getRemoteAddr() 가 실제 클라이언트 IP 가 됨
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final long EVICT_INTERVAL = 60 * 1000;
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final List<Rule> rules;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>(); // "규칙:u회원번호" 또는 "규칙:ipIP" -> 버킷
+
+    public RateLimitInterceptor(RateLimitProperties properties) {
+        this.rules = properties.getRules().stream().map(Rule::new).toList();
+    }
+
+    public List<String> getPathPatterns() {
+        return rules.stream().map(rule -> rule.pattern.getPatternString()).distinct().toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Rule rule : rules) {
+            if (!rule.matches(request.getMethod(), path)) {
+                continue;
+            }
+            long now = System.nanoTime();
+            long waitNanos = buckets.computeIfAbsent(rule.name + ":" + clientKey(request), key -> new TokenBucket(rule, now))
+                    .tryConsume(now);
+            if (waitNanos > 0) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.ceilDiv(waitNanos, TimeUnit.SECONDS.toNanos(1))));
+                if (isViewRequest(handler)) { // 매장 관리자 화면(폼 전송)은 에러 페이지로
+                    throw new Web429(TOO_MANY_REQUESTS_MESSAGE);
+                }
+                throw new App429(TOO_MANY_REQUESTS_MESSAGE);
+            }
+        }
+        return true;
+    }
+
+    // 다시 가득 찬 버킷은 새 버킷과 같으므로 제거 (오래 요청이 없던 회원/IP 정리)
+    // 제거 직전에 다른 요청이 토큰을 쓰면 그 한 번은 기록되지 않음 (최대 1건 더 허용)
+    @Scheduled(fixedDelay = EVICT_INTERVAL)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    // 화면을 돌려주는 핸들러 (@ResponseBody, ResponseEntity 가 아닌 경우)
+    private boolean isViewRequest(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        return !AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ResponseBody.class)
+                && !handlerMethod.hasMethodAnnotation(ResponseBody.class)
+                && !ResponseEntity.class.isAssignableFrom(handlerMethod.getMethod().getReturnType());
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
+        if (sessionUser != null) {
+            return "u" + sessionUser.getId();
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+
+    private static class Rule {
+        private final String name;
+        private final PathPattern pattern;
+        private final List<String> methods;
+        private final long interval; // 토큰 1개가 다시 채워지는 시간(ns)
+        private final long burst; // 가득 찬 버킷에서 몰아서 쓸 수 있는 시간(ns)
+
+        private Rule(RateLimitProperties.Rule rule) {
+            if (rule.getName() == null || rule.getPattern() == null) {
+                throw new IllegalArgumentException("rate-limit 규칙에 name, pattern 이 필요합니다.");
+            }
+            if (rule.getCapacity() < 1 || rule.getRefillPerMinute() < 1) {
+                throw new IllegalArgumentException("rate-limit 규칙(" + rule.getName() + ")의 capacity, refill-per-minute 는 1 이상이어야 합니다.");
+            }
+            this.name = rule.getName();
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPattern());
+            this.methods = rule.getMethods().stream().map(String::toUpperCase).toList();
+            this.interval = TimeUnit.MINUTES.toNanos(1) / rule.getRefillPerMinute();
+            this.burst = interval * (rule.getCapacity() - 1);
+        }
+
+        private boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+
+    // 토큰 버킷 (GCRA) - 남은 토큰 수 대신 '버킷이 다시 가득 차는 시각' 하나만 CAS 로 갱신해서 락 없이 처리
+    private static class TokenBucket {
+        private final long interval;
+        private final long burst;
+        private final AtomicLong fullAt;
+
+        private TokenBucket(Rule rule, long now) {
+            this.interval = rule.interval;
+            this.burst = rule.burst;
+            this.fullAt = new AtomicLong(now);
+        }
+
+        // 허용되면 0, 아니면 다음 토큰까지 기다려야 하는 시간(ns)
+        private long tryConsume(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long base = Math.max(current, now);
+                if (base - now > burst) {
+                    return base - now - burst;
+                }
+                if (fullAt.compareAndSet(current, base + interval)) {
+                    return 0;
+                }
+            }
+        }
+
+        private boolean isFull(long now) {
+            return fullAt.get() - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package shop.project.pathorderserver._core.lock;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+// 서버 여러 대 중 한 대에서만 실행해야 하는 작업의 잠금 (작업마다 한 행, lockedUntil 까지 lockedBy 서버가 점유)
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "job_lock_tb")
+public class JobLock {
+    @Id
+    private String name; // 작업 이름
+    private Timestamp lockedUntil; // 이 시각이 지나면 다른 서버가 가져갈 수 있음 (잠근 서버가 죽어도 풀림)
+    private String lockedBy; // 잠근 서버
+}
@@ -0,0 +1,27 @@
+package shop.project.pathorderserver._core.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // 비어 있거나(만료) 이미 내가 잡은 잠금이면 until 까지 점유, 성공하면 1 (내 잠금이면 연장)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+            UPDATE JobLock j SET j.lockedUntil = :until, j.lockedBy = :owner
+            WHERE j.name = :name AND (j.lockedUntil < :now OR j.lockedBy = :owner)
+            """)
+    int tryLock(@Param("name") String name, @Param("owner") String owner, @Param("now") Timestamp now, @Param("until") Timestamp until);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE JobLock j SET j.lockedUntil = :now WHERE j.name = :name AND j.lockedBy = :owner")
+    int unlock(@Param("name") String name, @Param("owner") String owner, @Param("now") Timestamp now);
+}
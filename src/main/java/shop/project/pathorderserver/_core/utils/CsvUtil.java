@@ -0,0 +1,33 @@
+package shop.project.pathorderserver._core.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public class CsvUtil {
+    public static final String BOM = "\uFEFF"; // 엑셀에서 한글이 깨지지 않도록 파일 맨 앞에 씀
+
+    public static void writeRow(Writer writer, Object... values) throws IOException { // 한 줄 쓰기 (쉼표 구분, CRLF)
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // 엑셀이 수식으로 실행하지 않도록 (손님 닉네임 등 입력값)
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            text = "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
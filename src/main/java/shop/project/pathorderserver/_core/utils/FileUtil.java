@@ -6,20 +6,27 @@ import shop.project.pathorderserver._core.MimeType;
 import shop.project.pathorderserver._core.errors.exception.App400;
 import shop.project.pathorderserver._core.errors.exception.App500;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Base64;
 import java.util.UUID;
 
 public class FileUtil {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
     public static String uploadFile(MultipartFile file) {
         // UUID_파일 이름.확장자
         try {
             String newFilename = UUID.randomUUID() + "_" + file.getOriginalFilename();
             Path newFilePath = Paths.get("./upload/" + newFilename);
 
-            Files.write(newFilePath, file.getBytes());
+            file.transferTo(newFilePath); // 업로드 파일 전체를 byte[] 로 읽지 않고 복사
             return newFilename; // 생성된 파일 이름 return
         } catch (Exception e) {
             throw new App400(e.getMessage());
@@ -32,6 +39,7 @@ public class FileUtil {
             if (encodedData == null) { // 미확인 확장자 처리 TODO: 사진 유지 로직 추가하기
                 return "default";
             }
+            int dataIndex = encodedData.indexOf(","); // data:image/png;base64,xxxx
             String mimeType = encodedData.substring(encodedData.indexOf(":") + 1, encodedData.indexOf(";"));
             System.out.println(mimeType);
             MimeType type = MimeType.findByMimeType(mimeType);
@@ -42,9 +50,7 @@ public class FileUtil {
             String newFilename = UUID.randomUUID() + "_" + filename + extension;
             Path newFilePath = Paths.get("./upload/" + newFilename);
 
-            byte[] decodedByte = Base64.getDecoder().decode(encodedData.split(",")[1]);
-
-            Files.write(newFilePath, decodedByte);
+            writeBase64(new StringInputStream(encodedData, dataIndex + 1), newFilePath);
             return newFilename; // 생성된 파일 이름 return
         } catch (Exception e) {
             throw new App400(e.getMessage());
@@ -56,14 +62,38 @@ public class FileUtil {
         if (encodedData == null) { // 미확인 확장자 처리 TODO: 사진 유지 로직 추가하기
             return "default";
         }
+        return uploadBase64Jpg(new StringInputStream(encodedData, 0), filename);
+    }
+
+    // 요청 본문 등 Base64 스트림을 그대로 받아서 저장 (.jpg 로 고정)
+    public static String uploadBase64Jpg(InputStream encodedStream, String filename) {
         String newFilename = UUID.randomUUID() + "_" + filename + MimeType.JPEG.getExtension();
         Path newFilePath = Paths.get("./upload/" + newFilename);
-        try {
-            byte[] decodedByte = Base64.getDecoder().decode(encodedData);
+        writeBase64(encodedStream, newFilePath);
+        return newFilename; // 생성된 파일 이름 return
+    }
 
-            Files.write(newFilePath, decodedByte);
-            return newFilename; // 생성된 파일 이름 return
-        } catch (Exception e) {
+    // Base64 를 byte[] 로 한 번에 디코딩하지 않고 BUFFER_SIZE 씩 디코딩해서 바로 파일에 기록 (이미지 크기만큼의 사본을 만들지 않음)
+    public static void writeBase64(InputStream encodedStream, Path path) {
+        try (InputStream decodedStream = Base64.getDecoder().wrap(encodedStream);
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int length;
+            while ((length = decodedStream.read(buffer)) != -1) {
+                byteBuffer.clear().limit(length);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+            if (encodedStream.read() != -1) { // 패딩(=) 뒤에 남은 문자가 있으면 잘못된 Base64
+                throw new IOException("Base64 패딩 뒤에 잘못된 문자가 있습니다.");
+            }
+        } catch (IOException | IllegalArgumentException e) { // 잘못된 Base64 문자는 기록 도중에 발견되므로 쓰다 만 파일 삭제
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+            }
             throw new App400(e.getMessage());
         }
     }
@@ -85,4 +115,39 @@ public class FileUtil {
         }
         return "/upload/" + filename; // 파일 경로 return
     }
+
+    // 문자열을 복사하지 않고 start 위치부터 한 글자씩 1바이트로 읽음 (Base64 는 ASCII 문자만 사용, 그 외 문자는 '?' 로 읽어 디코딩 오류)
+    private static class StringInputStream extends InputStream {
+        private final String value;
+        private int position;
+
+        private StringInputStream(String value, int start) {
+            this.value = value;
+            this.position = start;
+        }
+
+        @Override
+        public int read() {
+            return position < value.length() ? toByte(value.charAt(position++)) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= value.length()) {
+                return -1;
+            }
+            int count = Math.min(length, value.length() - position);
+            for (int i = 0; i < count; i++) {
+                bytes[offset + i] = (byte) toByte(value.charAt(position++));
+            }
+            return count;
+        }
+
+        private static int toByte(char c) {
+            return c < 0x80 ? c : '?';
+        }
+    }
 }
@@ -1,14 +1,29 @@
 package shop.project.pathorderserver._core.utils;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.AllArgsConstructor;
 import shop.project.pathorderserver.user.SessionUser;
 import shop.project.pathorderserver.user.User;
 
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class JwtUtil {
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512("passorder"); // 나중에 환경 변수로 변경.
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build(); // 스레드 안전, 요청마다 만들지 않음
+    private static final int MAX_CACHE_ENTRIES = 10_000;
+    private static final long CACHE_TTL = 10 * 60 * 1000; // 토큰 만료(exp)가 더 빠르면 exp 까지만 사용
+
+    // 검증된 토큰 -> 사용자 정보, 같은 토큰은 서명 검증(HMAC-512)을 다시 하지 않음 (캐시 조회는 잠금 없음)
+    private static final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private static final AtomicBoolean evicting = new AtomicBoolean(); // 정리는 한 스레드만
+
     public static String create(User user) {
         String jwt = JWT.create()
                 .withSubject("pathorder")
@@ -16,21 +31,78 @@ public class JwtUtil {
                 .withClaim("id", user.getId())
                 .withClaim("username", user.getUsername())
                 .withClaim("nickname", user.getNickname())
-                .sign(Algorithm.HMAC512("passorder")); // 나중에 환경 변수로 변경.
+                .sign(ALGORITHM);
 
         return jwt;
     }
 
     public static SessionUser verify(String jwt) {
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512("passorder")).build().verify(jwt);
+        long now = System.currentTimeMillis();
+        VerifiedToken verifiedToken = findVerifiedToken(jwt, now);
+        if (verifiedToken != null) {
+            return verifiedToken.toSessionUser();
+        }
+
+        // 캐시에 없거나 만료됨 -> 서명, exp 검증 (만료된 토큰은 TokenExpiredException)
+        DecodedJWT decodedJWT = VERIFIER.verify(jwt);
         int id = decodedJWT.getClaim("id").asInt();
         String username = decodedJWT.getClaim("username").asString();
         String nickname = decodedJWT.getClaim("nickname").asString();
 
-        return SessionUser.builder()
-                .id(id)
-                .username(username)
-                .nickname(nickname)
-                .build();
+        long expiresAt = now + CACHE_TTL;
+        if (decodedJWT.getExpiresAt() != null) {
+            expiresAt = Math.min(expiresAt, decodedJWT.getExpiresAt().getTime());
+        }
+        verifiedToken = new VerifiedToken(id, username, nickname, expiresAt);
+        saveVerifiedToken(jwt, verifiedToken, now);
+
+        return verifiedToken.toSessionUser();
+    }
+
+    private static VerifiedToken findVerifiedToken(String jwt, long now) {
+        VerifiedToken verifiedToken = verifiedTokens.get(jwt);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (verifiedToken.expiresAt <= now) {
+            verifiedTokens.remove(jwt, verifiedToken);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    // 크기가 넘으면 만료된 항목부터 지우고, 그래도 넘으면 임의의 항목을 지워 MAX_CACHE_ENTRIES 의 90% 까지 줄임
+    private static void saveVerifiedToken(String jwt, VerifiedToken verifiedToken, long now) {
+        verifiedTokens.put(jwt, verifiedToken);
+        if (verifiedTokens.size() <= MAX_CACHE_ENTRIES || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            verifiedTokens.values().removeIf(token -> token.expiresAt <= now);
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() > MAX_CACHE_ENTRIES * 9 / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    // SessionUser 는 변경 가능한 객체라 요청마다 새로 만들어 반환
+    @AllArgsConstructor
+    private static class VerifiedToken {
+        private final int id;
+        private final String username;
+        private final String nickname;
+        private final long expiresAt;
+
+        private SessionUser toSessionUser() {
+            return SessionUser.builder()
+                    .id(id)
+                    .username(username)
+                    .nickname(nickname)
+                    .build();
+        }
     }
-}
\ No newline at end of file
+}
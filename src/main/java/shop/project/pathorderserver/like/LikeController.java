@@ -1,6 +1,6 @@
 package shop.project.pathorderserver.like;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,12 +14,12 @@ import java.util.List;
 @RestController
 public class LikeController {
     private final LikeService likeService;
-    private final HttpSession session;
+    private final HttpServletRequest request; // JWT 인증 결과(sessionUser)는 요청 속성으로 전달됨
 
     // 좋아요 추가
     @PostMapping("/api/users/{userId}/likes")
     public ResponseEntity<?> addLike(@PathVariable int userId, @RequestBody LikeRequest.AddLikeDTO reqDTO) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
         reqDTO.setUserId(sessionUser.getId());
         LikeResponse.AddLikeDTO respDTO = likeService.addLike(reqDTO);
 
@@ -29,7 +29,7 @@ public class LikeController {
     // 좋아요 삭제
     @DeleteMapping("/api/users/{userId}/likes")
     public ResponseEntity<?> removeLike(@PathVariable int userId, @RequestBody LikeRequest.RemoveLikeDTO reqDTO) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
         reqDTO.setUserId(sessionUser.getId());
 
         likeService.removeLike(reqDTO);
@@ -40,11 +40,11 @@ public class LikeController {
     // 특정 사용자의 좋아요 목록 조회
     @GetMapping("/api/users/{userId}/likes")
     public ResponseEntity<?> getUserLikes(@PathVariable int userId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
         if (userId != sessionUser.getId()) {
             throw new App403("해당 좋아요 리스트를 열람하실 수 없습니다.");
         }
-        List<LikeResponse.LikeListDTO> respDTO = likeService.getUserLikes(sessionUser.getId());
+        List<LikeResponse.LikeListDTO> respDTO = likeService.getUserLikes(sessionUser);
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 }
@@ -10,12 +10,14 @@ import java.util.Optional;
 public interface LikeRepository extends JpaRepository<Like, Integer> {
     // 특정 사용자가 좋아요한 목록 조회
     @Query("""
-            SELECT l.id as id, s.id as storeId, s.imgFilename as storeImgFilename, s.name as storeName, s.latitude as latitude, s.longitude as longitude
-            FROM Like l 
-            JOIN l.store s 
+            SELECT new shop.project.pathorderserver.like.LikeResponse$LikeListDTO(
+                l.id, s.id, s.imgFilename, s.name, s.latitude, s.longitude, s.likeCount, s.reviewCount)
+            FROM Like l
+            JOIN l.store s
             WHERE l.customer.id = :userId
+            ORDER BY l.id
             """)
-    List<Object[]> findLikesByUserId(@Param("userId") int userId);
+    List<LikeResponse.LikeListDTO> findLikesByUserId(@Param("userId") int userId);
 
     Optional<Like> findByCustomerIdAndStoreId(int customerId, int storeId);
 
@@ -23,4 +25,8 @@ public interface LikeRepository extends JpaRepository<Like, Integer> {
 
     int countByStoreId(int storeId);
 
+    // 사용자가 좋아요한 매장 번호 조회
+    @Query("SELECT l.store.id FROM Like l WHERE l.customer.id = :userId")
+    List<Integer> findStoreIdsByUserId(@Param("userId") int userId);
+
 }
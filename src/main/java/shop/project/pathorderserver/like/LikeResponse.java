@@ -27,6 +27,7 @@ public class LikeResponse {
 
     @Data
     @Builder
+    @AllArgsConstructor
     public static class LikeListDTO {
         private int id;
         private int storeId;
@@ -38,6 +39,19 @@ public class LikeResponse {
         private int reviewCount;
         private Double latitude;
         private Double longitude;
+
+        // LikeRepository.findLikesByUserId 조회용 (거리는 서비스에서 계산)
+        public LikeListDTO(Integer id, Integer storeId, String storeImgFilename, String storeName, Double latitude, Double longitude, Integer likeCount, Integer reviewCount) {
+            this.id = id;
+            this.storeId = storeId;
+            this.storeImgFilename = storeImgFilename;
+            this.storeName = storeName;
+            this.isLike = true;
+            this.likeCount = likeCount;
+            this.reviewCount = reviewCount;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
     }
 
     @Data
@@ -1,14 +1,13 @@
 package shop.project.pathorderserver.like;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import shop.project.pathorderserver._core.errors.exception.App400;
 import shop.project.pathorderserver._core.errors.exception.App404;
 import shop.project.pathorderserver._core.utils.DistanceUtil;
-import shop.project.pathorderserver.review.ReviewRepository;
 import shop.project.pathorderserver.store.Store;
+import shop.project.pathorderserver.store.StoreCountBuffer;
 import shop.project.pathorderserver.store.StoreRepository;
 import shop.project.pathorderserver.user.SessionUser;
 import shop.project.pathorderserver.user.User;
@@ -23,8 +22,8 @@ public class LikeService {
     final private UserRepository userRepository;
     final private StoreRepository storeRepository;
     final private LikeRepository likeRepository;
-    final private HttpSession session;
-    private final ReviewRepository reviewRepository;
+    private final StoreCountBuffer storeCountBuffer;
+    private final LikedStoreCache likedStoreCache;
 
     @Transactional
     public LikeResponse.AddLikeDTO addLike(LikeRequest.AddLikeDTO reqDTO) {
@@ -40,6 +39,8 @@ public class LikeService {
         like.setCustomer(user);
         like.setStore(store);
         likeRepository.save(like);
+        storeCountBuffer.addLikeCount(store.getId(), 1);
+        likedStoreCache.add(user.getId(), store.getId());
 
         return new LikeResponse.AddLikeDTO(reqDTO);
     }
@@ -49,50 +50,34 @@ public class LikeService {
         Optional<Like> like = likeRepository.findByCustomerIdAndStoreId(reqDTO.getUserId(), reqDTO.getStoreId());
         if (like.isPresent()) {
             likeRepository.delete(like.get());
+            storeCountBuffer.addLikeCount(reqDTO.getStoreId(), -1);
+            likedStoreCache.remove(reqDTO.getUserId(), reqDTO.getStoreId());
         } else {
             throw new App404("해당 좋아요가 존재하지 않습니다.");
         }
     }
 
-    public List<LikeResponse.LikeListDTO> getUserLikes(int userId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+    public List<LikeResponse.LikeListDTO> getUserLikes(SessionUser sessionUser) {
+        int userId = sessionUser.getId();
         double customerLatitude = sessionUser.getLatitude();
         double customerLongitude = sessionUser.getLongitude();
 
-        List<Object[]> results = likeRepository.findLikesByUserId(userId);
-        return results.stream()
-                .map(result -> {
-                    int storeId = (Integer) result[1];
-                    int likeCount = getStoreLikeCount(storeId);
-                    int reviewCount = getReviewCount(storeId);
-                    Store store = storeRepository.findById(storeId).orElseThrow(() -> new App404("해당하는 매장을 찾을 수 없습니다."));
-                    int distance = DistanceUtil.calculateDistance(customerLatitude, customerLongitude, store.getLatitude(), store.getLongitude());
-
-                    return LikeResponse.LikeListDTO.builder()
-                            .id((Integer) result[0])
-                            .storeId(storeId)
-                            .storeImgFilename((String) result[2])
-                            .storeName((String) result[3])
-                            .distance(distance)
-                            .isLike(true)
-                            .latitude((Double) result[4]) // 위도 설정
-                            .longitude((Double) result[5]) // 경도 설정
-                            .likeCount(likeCount)
-                            .reviewCount(reviewCount)
-                            .build();
-                })
-                .toList();
+        List<LikeResponse.LikeListDTO> likeList = likeRepository.findLikesByUserId(userId); // 매장 정보, 좋아요 수, 리뷰 수까지 한 번에
+        for (LikeResponse.LikeListDTO likeDTO : likeList) {
+            int storeId = likeDTO.getStoreId();
+            likeDTO.setDistance(DistanceUtil.calculateDistance(customerLatitude, customerLongitude, likeDTO.getLatitude(), likeDTO.getLongitude()));
+            likeDTO.setLikeCount(likeDTO.getLikeCount() + storeCountBuffer.getPendingLikeCount(storeId));
+            likeDTO.setReviewCount(likeDTO.getReviewCount() + storeCountBuffer.getPendingReviewCount(storeId));
+        }
+        return likeList;
     }
 
     public boolean isUserLikedStore(int userId, int storeId) {
-        return likeRepository.existsByCustomerIdAndStoreId(userId, storeId);
-    }
-
-    public int getStoreLikeCount(int storeId) {
-        return likeRepository.countByStoreId(storeId);
+        return likedStoreCache.get(userId).contains(storeId);
     }
 
-    public int getReviewCount(int storeId) {
-        return reviewRepository.findReviewCountByStoreId(storeId);
+    // 사용자가 좋아요한 매장 번호 집합 (캐시)
+    public LikedStoreCache.StoreIdSet getLikedStoreIds(int userId) {
+        return likedStoreCache.get(userId);
     }
 }
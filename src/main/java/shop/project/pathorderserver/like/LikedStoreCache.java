@@ -0,0 +1,128 @@
+package shop.project.pathorderserver.like;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.project.pathorderserver._core.utils.TransactionUtil;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 사용자별 좋아요한 매장 번호 캐시 (LRU, 최대 MAX_USERS 명)
+// 이 서버에서 처리한 좋아요는 바로 반영, 다른 서버에서 처리한 좋아요는 TTL 이 지나 다시 조회할 때 반영
+@RequiredArgsConstructor
+@Component
+public class LikedStoreCache {
+    private static final int MAX_USERS = 10_000;
+    private static final int STRIPES = 64; // 사용자별 변경 버전 (userId % STRIPES)
+    private static final long TTL = 60 * 1000;
+
+    private final LikeRepository likeRepository;
+    private final long[] versions = new long[STRIPES];
+    private final Map<Integer, Entry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+            return size() > MAX_USERS;
+        }
+    };
+
+    public StoreIdSet get(int userId) {
+        return get(userId, System.currentTimeMillis(), likeRepository::findStoreIdsByUserId);
+    }
+
+    StoreIdSet get(int userId, long now, Function<Integer, List<Integer>> loader) {
+        long version;
+        synchronized (this) {
+            Entry entry = cache.get(userId);
+            if (entry != null && entry.expiresAt > now) {
+                return entry.storeIds;
+            }
+            version = versions[stripe(userId)];
+        }
+        StoreIdSet storeIds = StoreIdSet.of(loader.apply(userId)); // DB 조회는 락 밖에서
+        synchronized (this) {
+            if (versions[stripe(userId)] == version) { // 조회하는 사이에 좋아요가 바뀌었으면 캐시하지 않음
+                cache.put(userId, new Entry(storeIds, now + TTL));
+            }
+        }
+        return storeIds;
+    }
+
+    // 좋아요 추가/삭제, 트랜잭션이 커밋된 뒤에 캐시에 반영
+    public void add(int userId, int storeId) {
+        TransactionUtil.afterCommit(() -> update(userId, storeId, true));
+    }
+
+    public void remove(int userId, int storeId) {
+        TransactionUtil.afterCommit(() -> update(userId, storeId, false));
+    }
+
+    private synchronized void update(int userId, int storeId, boolean liked) {
+        versions[stripe(userId)]++;
+        cache.computeIfPresent(userId, (key, entry) ->
+                new Entry(liked ? entry.storeIds.with(storeId) : entry.storeIds.without(storeId), entry.expiresAt));
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final StoreIdSet storeIds;
+        private final long expiresAt;
+    }
+
+    private static int stripe(int userId) {
+        return Math.floorMod(userId, STRIPES);
+    }
+
+    // 정렬된 int 배열 기반의 불변 매장 번호 집합
+    public static class StoreIdSet {
+        private static final StoreIdSet EMPTY = new StoreIdSet(new int[0]);
+
+        private final int[] storeIds;
+
+        private StoreIdSet(int[] storeIds) {
+            this.storeIds = storeIds;
+        }
+
+        public static StoreIdSet of(List<Integer> storeIds) {
+            if (storeIds.isEmpty()) {
+                return EMPTY;
+            }
+            return new StoreIdSet(storeIds.stream().mapToInt(Integer::intValue).sorted().distinct().toArray());
+        }
+
+        public boolean contains(int storeId) {
+            return Arrays.binarySearch(storeIds, storeId) >= 0;
+        }
+
+        public int size() {
+            return storeIds.length;
+        }
+
+        public StoreIdSet with(int storeId) {
+            int index = Arrays.binarySearch(storeIds, storeId);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            int[] newStoreIds = new int[storeIds.length + 1];
+            System.arraycopy(storeIds, 0, newStoreIds, 0, insertAt);
+            newStoreIds[insertAt] = storeId;
+            System.arraycopy(storeIds, insertAt, newStoreIds, insertAt + 1, storeIds.length - insertAt);
+            return new StoreIdSet(newStoreIds);
+        }
+
+        public StoreIdSet without(int storeId) {
+            int index = Arrays.binarySearch(storeIds, storeId);
+            if (index < 0) {
+                return this;
+            }
+            int[] newStoreIds = new int[storeIds.length - 1];
+            System.arraycopy(storeIds, 0, newStoreIds, 0, index);
+            System.arraycopy(storeIds, index + 1, newStoreIds, index, storeIds.length - index - 1);
+            return new StoreIdSet(newStoreIds);
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class Menu {
     @ManyToOne(fetch = FetchType.LAZY)
     private Store store; // 하나의 매장은 여러 개의 메뉴를 가질 수 있음
 
-    @OneToMany(fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "menu") // LAZY, 옵션이 필요한 화면은 fetch join 쿼리로 조회
     private List<MenuOption> menuOptions;
 
     @CreationTimestamp
@@ -10,8 +10,15 @@ import shop.project.pathorderserver.store.StoreRequest;
 @Entity
 @Table(name = "menu_option_tb")
 public class MenuOption {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 옵션 번호는 id_generator_tb 에서 미리 할당 받아 채번 (메뉴 수정 시 새 옵션 INSERT 배치 처리)
+    // 운영 DB 에는 menu_option_tb 행이 없으므로 배포 전에 MAX(id) + 49 로 INSERT 해야 기존 번호와 겹치지 않음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "menu_option_id_generator", table = "id_generator_tb", pkColumnName = "table_name", valueColumnName = "next_id",
+            pkColumnValue = "menu_option_tb", allocationSize = ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "menu_option_id_generator")
+    @Column(columnDefinition = "int auto_increment")
     private int id;
 
     // 메뉴 옵션 정보
@@ -31,6 +38,12 @@ public class MenuOption {
         this.menu = menu;
     }
 
+    // 메뉴 수정 시 기존 옵션 변경 (바뀐 값이 있을 때만 UPDATE 됨)
+    public void update(StoreRequest.UpdateMenuDTO.MenuOptionDTO reqDTO) {
+        this.price = reqDTO.getPrice();
+        this.name = reqDTO.getName();
+        this.isRequired = reqDTO.isRequired();
+    }
 
     /*
     public MenuOption(StoreRequest.CreateMenuOptionDTO reqDTO, Menu menu) {
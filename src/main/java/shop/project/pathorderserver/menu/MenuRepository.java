@@ -11,4 +11,8 @@ public interface MenuRepository extends JpaRepository<Menu, Integer> {
     @Query("SELECT m FROM Menu m WHERE m.store.id = :storeId")
         // 매장 메뉴 목록보기
     Optional<List<Menu>> findAllByStoreId(@Param("storeId") Integer storeId);
+
+    @Query("SELECT DISTINCT m FROM Menu m LEFT JOIN FETCH m.menuOptions WHERE m.store.id = :storeId ORDER BY m.id")
+        // 매장 관리자 - 메뉴 목록보기 (옵션 포함)
+    List<Menu> findAllWithMenuOptionsByStoreId(@Param("storeId") int storeId);
 }
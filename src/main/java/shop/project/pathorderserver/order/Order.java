@@ -17,10 +17,22 @@ import java.util.List;
 @Data
 @DynamicInsert
 @Entity
-@Table(name = "order_tb")
+@Table(name = "order_tb", indexes = {
+        @Index(name = "idx_order_store_status_created_at", columnList = "store_id, status, created_at") // 매장별 상태별 주문 조회 (주문 현황판)
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_order_customer_idempotency_key", columnNames = {"customer_id", "idempotency_key"})
+})
 public class Order {
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final int IDEMPOTENCY_KEY_LENGTH = 64;
+
+    // 주문 번호는 id_generator_tb 에서 ID_ALLOCATION_SIZE 만큼 미리 할당 받아 채번 (INSERT 배치 처리 가능)
+    // 컬럼은 기존 데이터(data.sql, 운영 DB)와 맞추기 위해 auto_increment 유지
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "order_id_generator", table = "id_generator_tb", pkColumnName = "table_name", valueColumnName = "next_id",
+            pkColumnValue = "order_tb", allocationSize = ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_id_generator")
+    @Column(columnDefinition = "int auto_increment")
     private int id;
 
     // 손님 정보
@@ -39,15 +51,19 @@ public class Order {
     @ColumnDefault("'PENDING'")
     private OrderStatus status; // 조리 상태(0 : 조리중, 1 : 조리완료)
     // 주문 메뉴 정보
-    @OneToMany(mappedBy = "order", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order") // LAZY, 메뉴가 필요한 화면은 fetch join 쿼리로 조회
     private List<OrderMenu> orderMenus;
+    // 주문 중복 방지 (운영 DB 는 ddl-auto: none 이라 컬럼, uk_order_customer_idempotency_key 를 배포 전에 추가해야 함)
+    @Column(length = IDEMPOTENCY_KEY_LENGTH)
+    private String idempotencyKey; // 앱이 재시도할 때 같은 값을 보내는 멱등키 (Idempotency-Key 헤더)
 
     @CreationTimestamp
     private Timestamp createdAt; // 주문 시간
     // private LocalDateTime 수령시각;
 
-    public Order(UserRequest.OrderDTO reqDTO, User customer, Store store) {
+    public Order(UserRequest.OrderDTO reqDTO, User customer, Store store, String idempotencyKey) {
         this.customer = customer;
+        this.idempotencyKey = idempotencyKey;
         this.store = store;
         this.storeName = reqDTO.getStoreName();
         this.customerNickname = reqDTO.getCustomerNickname();
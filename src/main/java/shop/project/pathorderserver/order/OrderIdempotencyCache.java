@@ -0,0 +1,63 @@
+package shop.project.pathorderserver.order;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.project.pathorderserver._core.utils.TransactionUtil;
+import shop.project.pathorderserver.user.UserResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 멱등키(Idempotency-Key)별 주문 응답 캐시 (최대 MAX_ENTRIES 건, TTL 이 지나면 제거)
+// 캐시에서 빠진 키는 order_tb 의 (customer_id, idempotency_key) 유니크 제약으로 한 번 더 걸러진다
+@Component
+public class OrderIdempotencyCache {
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL = 10 * 60 * 1000; // 모바일 재시도 간격을 넉넉히 덮는 시간
+
+    private final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, false) { // 저장 순서 == 만료 순서
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public synchronized Optional<UserResponse.OrderDTO> get(int customerId, String idempotencyKey) {
+        Entry entry = cache.get(key(customerId, idempotencyKey));
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.order);
+    }
+
+    // 주문 트랜잭션이 커밋된 뒤에 저장 (롤백된 주문은 재생하지 않음)
+    public void put(int customerId, String idempotencyKey, UserResponse.OrderDTO order) {
+        TransactionUtil.afterCommit(() -> store(key(customerId, idempotencyKey), order));
+    }
+
+    private synchronized void store(String key, UserResponse.OrderDTO order) {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> iterator = cache.values().iterator();
+        while (iterator.hasNext() && iterator.next().isExpired(now)) { // 앞쪽(오래된 것)부터 만료된 항목 정리
+            iterator.remove();
+        }
+        cache.remove(key);
+        cache.put(key, new Entry(order, now + TTL));
+    }
+
+    private static String key(int customerId, String idempotencyKey) {
+        return customerId + ":" + idempotencyKey;
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final UserResponse.OrderDTO order;
+        private final long expiresAt;
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
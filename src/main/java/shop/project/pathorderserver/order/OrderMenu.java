@@ -16,7 +16,10 @@ import java.util.List;
 @Table(name = "order_menu_tb")
 public class OrderMenu {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "order_menu_id_generator", table = "id_generator_tb", pkColumnName = "table_name", valueColumnName = "next_id",
+            pkColumnValue = "order_menu_tb", allocationSize = Order.ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_menu_id_generator")
+    @Column(columnDefinition = "int auto_increment")
     private int id;
 
     // 메뉴 정보
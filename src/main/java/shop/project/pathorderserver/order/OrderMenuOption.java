@@ -14,7 +14,10 @@ import java.sql.Timestamp;
 @Table(name = "order_menu_option_tb")
 public class OrderMenuOption {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(name = "order_menu_option_id_generator", table = "id_generator_tb", pkColumnName = "table_name", valueColumnName = "next_id",
+            pkColumnValue = "order_menu_option_tb", allocationSize = Order.ID_ALLOCATION_SIZE)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_menu_option_id_generator")
+    @Column(columnDefinition = "int auto_increment")
     private int id;
 
     // 주문 메뉴 옵션
@@ -1,11 +1,24 @@
 package shop.project.pathorderserver.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import shop.project.pathorderserver.store.StoreResponse;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderMenuRepository extends JpaRepository<OrderMenu, Integer> {
     Optional<List<OrderMenu>> findAllByOrderId(@Param("orderId") int orderId);
+
+    @Query("SELECT DISTINCT om FROM OrderMenu om LEFT JOIN FETCH om.orderMenuOptions WHERE om.order.id = :orderId ORDER BY om.id")
+    List<OrderMenu> findAllWithOrderMenuOptionsByOrderId(@Param("orderId") int orderId); // 주문 상세보기 (메뉴별 옵션 포함)
+
+    @Query("""
+            SELECT new shop.project.pathorderserver.store.StoreResponse$OrdersDTO$OrderMenuDTO(om.order.id, om.name, om.qty)
+            FROM OrderMenu om
+            WHERE om.order.id IN :orderIds
+            ORDER BY om.id
+            """)
+    List<StoreResponse.OrdersDTO.OrderMenuDTO> findAllByOrderIdIn(@Param("orderIds") List<Integer> orderIds); // 주문 현황판 메뉴 (이름, 수량)
 }
@@ -1,47 +1,94 @@
 package shop.project.pathorderserver.order;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import shop.project.pathorderserver.store.StoreResponse;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
-    @Query("SELECT o FROM Order o WHERE o.customer.id = :userId ORDER BY o.id DESC")
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderMenus WHERE o.customer.id = :userId ORDER BY o.id DESC")
         // 주문내역 목록보기 (회원)
     Optional<List<Order>> findAllByUserId(@Param("userId") int userId);
 
-    @Query("SELECT o FROM Order o WHERE o.store.id = :storeId ORDER BY o.id DESC")
-    Optional<List<Order>> findAllByStoreId(@Param("storeId") int storeId); // 주문내역 목록보기 (점주)
+    @Query("SELECT o FROM Order o JOIN FETCH o.customer JOIN FETCH o.store WHERE o.id = :orderId")
+    Optional<Order> findByIdWithCustomerAndStore(@Param("orderId") int orderId); // 주문 상세보기 (손님 연락처, 매장 연락처)
+
+    @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId AND o.idempotencyKey = :idempotencyKey")
+    Optional<Order> findByCustomerIdAndIdempotencyKey(@Param("customerId") int customerId, @Param("idempotencyKey") String idempotencyKey); // 멱등키로 접수된 주문 조회
 
     @Query("""
-            SELECT o 
+            SELECT new shop.project.pathorderserver.store.StoreResponse$OrdersDTO(o.id, o.status, o.customerNickname, o.createdAt)
             FROM Order o
-            JOIN FETCH o.store s
-            LEFT JOIN FETCH o.orderMenus om
-            WHERE s.id = :storeId
+            WHERE o.store.id = :storeId
+            AND o.status IN :statuses
+            ORDER BY o.id
             """)
-        // 주문보기 (점주)
-    Optional<List<Order>> findAllByStoreIdWithOrderMenu(@Param("storeId") int storeId);
+    List<StoreResponse.OrdersDTO> findAllByStoreIdAndStatusIn(@Param("storeId") int storeId, @Param("statuses") List<OrderStatus> statuses); // 주문 현황판 (처리중인 주문만)
 
-    //    @Query("""
-//            SELECT o
-//            FROM Order o
-//            join fetch o.store s
-//            where o.createdAt = :date and s.id = :storeId
-//            """)
+    @Query("""
+            SELECT new shop.project.pathorderserver.store.StoreResponse$OrderListDTO$OrderDTO(o.id, o.status, o.customerNickname, o.createdAt, o.totalPrice)
+            FROM Order o
+            WHERE o.store.id = :storeId
+            AND o.status NOT IN :excludedStatuses
+            AND o.id < :cursorId
+            ORDER BY o.id DESC
+            """)
+    List<StoreResponse.OrderListDTO.OrderDTO> findHistoryByStoreId(@Param("storeId") int storeId,
+                                                                   @Param("excludedStatuses") List<OrderStatus> excludedStatuses,
+                                                                   @Param("cursorId") int cursorId,
+                                                                   Pageable pageable); // 주문내역 (점주) - 주문 번호 커서 기반 페이징
 
     @Query("""
-            SELECT DISTINCT o
+            SELECT new shop.project.pathorderserver.store.StoreResponse$OrderListDTO$OrderDTO(o.id, o.status, o.customerNickname, o.createdAt, o.totalPrice)
             FROM Order o
-            JOIN FETCH o.store s
-            LEFT JOIN FETCH o.orderMenus om
-            WHERE s.id = :storeId
-            AND o.createdAt BETWEEN :startDate AND :endDate
+            WHERE o.store.id = :storeId
+            AND o.status NOT IN :excludedStatuses
+            AND o.createdAt >= :startDate AND o.createdAt < :endDate
+            AND o.id < :cursorId
+            ORDER BY o.id DESC
             """)
-    List<Order> findAllByStoreIdAndCreatedAtBetween(@Param("storeId") int storeId,
-                                                    @Param("startDate") LocalDateTime startDate,
-                                                    @Param("endDate") LocalDateTime endDate);
+    List<StoreResponse.OrderListDTO.OrderDTO> findHistoryByStoreIdAndCreatedAtBetween(@Param("storeId") int storeId,
+                                                                                      @Param("excludedStatuses") List<OrderStatus> excludedStatuses,
+                                                                                      @Param("startDate") LocalDateTime startDate,
+                                                                                      @Param("endDate") LocalDateTime endDate,
+                                                                                      @Param("cursorId") int cursorId,
+                                                                                      Pageable pageable); // 주문내역 날짜로 조회 (점주), endDate 는 포함하지 않음
+
+    // 주문내역 내보내기 (점주) - 목록을 만들지 않고 커서로 읽으면서 바로 씀, 트랜잭션 안에서 사용하고 닫아야 함
+    // MySQL 은 useCursorFetch=true 일 때만 fetch size 만큼씩 읽음 (application-prod.yml 의 datasource url 에 설정)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new shop.project.pathorderserver.store.StoreResponse$OrderExportDTO(o.id, o.createdAt, o.status, o.customerNickname, o.totalPrice, om.name, om.qty, om.totalPrice)
+            FROM Order o
+            LEFT JOIN o.orderMenus om
+            WHERE o.store.id = :storeId
+            AND o.status NOT IN :excludedStatuses
+            AND o.createdAt >= :startDate AND o.createdAt < :endDate
+            ORDER BY o.id, om.id
+            """)
+    Stream<StoreResponse.OrderExportDTO> streamExportByStoreIdAndCreatedAtBetween(@Param("storeId") int storeId,
+                                                                                  @Param("excludedStatuses") List<OrderStatus> excludedStatuses,
+                                                                                  @Param("startDate") LocalDateTime startDate,
+                                                                                  @Param("endDate") LocalDateTime endDate);
+
+    @Query("""
+            SELECT new shop.project.pathorderserver.store.StoreResponse$OrderStatusCountDTO(o.store.id, o.status, COUNT(o))
+            FROM Order o
+            WHERE o.status IN :statuses
+            GROUP BY o.store.id, o.status
+            """)
+    List<StoreResponse.OrderStatusCountDTO> countGroupByStoreIdAndStatusIn(@Param("statuses") List<OrderStatus> statuses); // 매장별, 상태별 주문 수 (idx_order_store_status_created_at 만 읽음)
+
+    @Query("SELECT MIN(o.createdAt) FROM Order o")
+    Optional<Timestamp> findFirstCreatedAt(); // 첫 주문 시각 (매출 집계 생성용)
 }
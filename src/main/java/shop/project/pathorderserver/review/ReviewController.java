@@ -1,6 +1,6 @@
 package shop.project.pathorderserver.review;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,13 +14,13 @@ import shop.project.pathorderserver.user.SessionUser;
 @RequiredArgsConstructor
 public class ReviewController {
     private final ReviewService reviewService;
-    private final HttpSession session;
+    private final HttpServletRequest request; // JWT 인증 결과(sessionUser)는 요청 속성으로 전달됨
 
     // 리뷰 등록
     @AppRequest
     @PostMapping("/api/stores/{storeId}/reviews")
     public ResponseEntity<?> addReview(@PathVariable int storeId, @Valid @RequestBody ReviewRequest.AddDTO reqDTO, Errors errors) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
         ReviewResponse.AddDTO respDTO = reviewService.addReview(reqDTO, storeId, sessionUser.getId());
 
         System.out.println(errors);
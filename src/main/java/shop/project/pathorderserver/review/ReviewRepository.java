@@ -9,11 +9,11 @@ import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
     // 내 리뷰 보기
-    @Query("SELECT r FROM Review r WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.user.id = :userId ORDER BY r.createdAt DESC")
     Optional<List<Review>> findByUserId(@Param("userId") int userId);
 
     // 매장 리뷰 보기
-    @Query("SELECT r FROM Review r WHERE r.store.id = :storeId ORDER BY r.createdAt DESC")
+    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.store.id = :storeId ORDER BY r.createdAt DESC")
     Optional<List<Review>> findByStoreId(@Param("storeId") int storeId);
 
     // 매장별 리뷰 개수
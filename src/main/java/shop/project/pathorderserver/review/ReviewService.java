@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import shop.project.pathorderserver._core.errors.exception.App403;
 import shop.project.pathorderserver._core.errors.exception.App404;
 import shop.project.pathorderserver.store.Store;
+import shop.project.pathorderserver.store.StoreCountBuffer;
 import shop.project.pathorderserver.store.StoreRepository;
 import shop.project.pathorderserver.user.User;
 import shop.project.pathorderserver.user.UserRepository;
@@ -18,6 +19,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final StoreCountBuffer storeCountBuffer;
 
     // 리뷰 등록
     @Transactional
@@ -33,6 +35,7 @@ public class ReviewService {
 
         Review review = new Review(reqDTO, user, store);
         reviewRepository.save(review);
+        storeCountBuffer.addReviewCount(storeId, 1);
 
         return new ReviewResponse.AddDTO(review);
     }
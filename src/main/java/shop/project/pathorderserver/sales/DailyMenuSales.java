@@ -0,0 +1,38 @@
+package shop.project.pathorderserver.sales;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 매장별 일 메뉴 판매량 집계 (주문 메뉴 이름 기준)
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "daily_menu_sales_tb", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_menu_sales_store_date_name", columnNames = {"store_id", "sales_date", "menu_name"})
+})
+public class DailyMenuSales {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "store_id")
+    private int storeId;
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+    @Column(name = "menu_name")
+    private String menuName;
+    private long qty; // 판매 수량
+    private long revenue; // 매출 (OrderMenu.totalPrice 합계)
+
+    // 재계산용 (order_menu_tb 집계 결과)
+    public DailyMenuSales(Integer storeId, LocalDate salesDate, String menuName, Long qty, Long revenue) {
+        this.storeId = storeId;
+        this.salesDate = salesDate;
+        this.menuName = menuName;
+        this.qty = qty;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,41 @@
+package shop.project.pathorderserver.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DailyMenuSalesRepository extends JpaRepository<DailyMenuSales, Integer> {
+    @Query("SELECT d FROM DailyMenuSales d WHERE d.storeId = :storeId AND d.salesDate >= :startDate AND d.salesDate < :endDate ORDER BY d.salesDate, d.menuName")
+    List<DailyMenuSales> findAllByStoreIdAndSalesDateBetween(@Param("storeId") int storeId,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate); // endDate 는 포함하지 않음
+
+    // 수령완료 주문의 메뉴 반영, 행이 없으면 생성 (동시에 들어와도 유니크 키로 한 행에 합쳐짐)
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_menu_sales_tb (store_id, sales_date, menu_name, qty, revenue) VALUES (:storeId, :salesDate, :menuName, :qty, :revenue)
+            ON DUPLICATE KEY UPDATE qty = qty + :qty, revenue = revenue + :revenue
+            """, nativeQuery = true)
+    int addMenu(@Param("storeId") int storeId, @Param("salesDate") LocalDate salesDate, @Param("menuName") String menuName,
+                @Param("qty") long qty, @Param("revenue") long revenue);
+
+    @Modifying
+    @Query("DELETE FROM DailyMenuSales d WHERE d.salesDate >= :startDate AND d.salesDate < :endDate")
+    int deleteAllBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 재계산 - order_menu_tb 의 수령완료 주문 메뉴를 매장별, 일자별, 메뉴별로 집계
+    @Query("""
+            SELECT new shop.project.pathorderserver.sales.DailyMenuSales(o.store.id, CAST(o.createdAt AS LocalDate), om.name, SUM(om.qty), SUM(om.totalPrice))
+            FROM OrderMenu om
+            JOIN om.order o
+            WHERE o.status = shop.project.pathorderserver.order.OrderStatus.SERVED
+            AND o.createdAt >= :startDateTime AND o.createdAt < :endDateTime
+            GROUP BY o.store.id, CAST(o.createdAt AS LocalDate), om.name
+            """)
+    List<DailyMenuSales> sumServedOrderMenus(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+}
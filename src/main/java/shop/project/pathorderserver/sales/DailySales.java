@@ -0,0 +1,35 @@
+package shop.project.pathorderserver.sales;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 매장별 일 매출 집계 (수령완료 주문 기준, 주문 일자로 집계)
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "daily_sales_tb", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_sales_store_date", columnNames = {"store_id", "sales_date"})
+})
+public class DailySales {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "store_id")
+    private int storeId;
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+    private long orderCount; // 주문 수
+    private long revenue; // 매출 (Order.totalPrice 합계)
+
+    // 재계산용 (order_tb 집계 결과)
+    public DailySales(Integer storeId, LocalDate salesDate, Long orderCount, Long revenue) {
+        this.storeId = storeId;
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,39 @@
+package shop.project.pathorderserver.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DailySalesRepository extends JpaRepository<DailySales, Integer> {
+    @Query("SELECT d FROM DailySales d WHERE d.storeId = :storeId AND d.salesDate >= :startDate AND d.salesDate < :endDate ORDER BY d.salesDate")
+    List<DailySales> findAllByStoreIdAndSalesDateBetween(@Param("storeId") int storeId,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate); // endDate 는 포함하지 않음
+
+    // 수령완료 주문 한 건 반영, 행이 없으면 생성 (같은 매장, 같은 날 주문이 동시에 들어와도 유니크 키로 한 행에 합쳐짐)
+    @Modifying
+    @Query(value = """
+            INSERT INTO daily_sales_tb (store_id, sales_date, order_count, revenue) VALUES (:storeId, :salesDate, 1, :revenue)
+            ON DUPLICATE KEY UPDATE order_count = order_count + 1, revenue = revenue + :revenue
+            """, nativeQuery = true)
+    int addOrder(@Param("storeId") int storeId, @Param("salesDate") LocalDate salesDate, @Param("revenue") long revenue);
+
+    @Modifying
+    @Query("DELETE FROM DailySales d WHERE d.salesDate >= :startDate AND d.salesDate < :endDate")
+    int deleteAllBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 재계산 - order_tb 의 수령완료 주문을 매장별, 일자별로 집계
+    @Query("""
+            SELECT new shop.project.pathorderserver.sales.DailySales(o.store.id, CAST(o.createdAt AS LocalDate), COUNT(o), SUM(o.totalPrice))
+            FROM Order o
+            WHERE o.status = shop.project.pathorderserver.order.OrderStatus.SERVED
+            AND o.createdAt >= :startDateTime AND o.createdAt < :endDateTime
+            GROUP BY o.store.id, CAST(o.createdAt AS LocalDate)
+            """)
+    List<DailySales> sumServedOrders(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+}
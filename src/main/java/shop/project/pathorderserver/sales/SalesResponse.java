@@ -0,0 +1,93 @@
+package shop.project.pathorderserver.sales;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SalesResponse {
+
+    @Data // 매장 관리자 - 매출 조회
+    public static class SalesDTO {
+        private int storeId;
+        private SalesUnit unit;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private long orderCount; // 기간 전체
+        private long revenue;
+        private List<PeriodDTO> periodList;
+
+        public SalesDTO(int storeId, SalesUnit unit, LocalDate startDate, LocalDate endDate,
+                        List<DailySales> dailySalesList, List<DailyMenuSales> dailyMenuSalesList) {
+            this.storeId = storeId;
+            this.unit = unit;
+            this.startDate = startDate;
+            this.endDate = endDate;
+
+            // 일 집계를 조회 단위(일, 주, 월)로 합침
+            Map<LocalDate, PeriodDTO> periodMap = new LinkedHashMap<>();
+            for (DailySales dailySales : dailySalesList) {
+                LocalDate periodStartDate = unit.startOf(dailySales.getSalesDate());
+                periodMap.computeIfAbsent(periodStartDate, PeriodDTO::new).add(dailySales);
+                this.orderCount += dailySales.getOrderCount();
+                this.revenue += dailySales.getRevenue();
+            }
+            for (DailyMenuSales dailyMenuSales : dailyMenuSalesList) {
+                LocalDate periodStartDate = unit.startOf(dailyMenuSales.getSalesDate());
+                periodMap.computeIfAbsent(periodStartDate, PeriodDTO::new).add(dailyMenuSales);
+            }
+            this.periodList = new ArrayList<>(periodMap.values());
+            this.periodList.sort(Comparator.comparing(PeriodDTO::getStartDate));
+            this.periodList.forEach(PeriodDTO::sortMenuList);
+        }
+
+        @Data
+        public static class PeriodDTO {
+            private LocalDate startDate; // 기간 시작일 (주별은 월요일, 월별은 1일)
+            private long orderCount;
+            private long revenue;
+            private List<MenuDTO> menuList = new ArrayList<>(); // 많이 팔린 순
+
+            public PeriodDTO(LocalDate startDate) {
+                this.startDate = startDate;
+            }
+
+            private void add(DailySales dailySales) {
+                this.orderCount += dailySales.getOrderCount();
+                this.revenue += dailySales.getRevenue();
+            }
+
+            private void add(DailyMenuSales dailyMenuSales) {
+                MenuDTO menu = menuList.stream()
+                        .filter(menuDTO -> menuDTO.getName().equals(dailyMenuSales.getMenuName()))
+                        .findFirst()
+                        .orElseGet(() -> {
+                            MenuDTO menuDTO = new MenuDTO(dailyMenuSales.getMenuName());
+                            menuList.add(menuDTO);
+                            return menuDTO;
+                        });
+                menu.setQty(menu.getQty() + dailyMenuSales.getQty());
+                menu.setRevenue(menu.getRevenue() + dailyMenuSales.getRevenue());
+            }
+
+            private void sortMenuList() {
+                menuList.sort(Comparator.comparingLong(MenuDTO::getQty).reversed());
+            }
+        }
+
+        @Data
+        public static class MenuDTO {
+            private String name;
+            private long qty;
+            private long revenue;
+
+            public MenuDTO(String name) {
+                this.name = name;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package shop.project.pathorderserver.sales;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.project.pathorderserver._core.errors.exception.App400;
+import shop.project.pathorderserver._core.lock.JobLockRepository;
+import shop.project.pathorderserver.order.Order;
+import shop.project.pathorderserver.order.OrderMenu;
+import shop.project.pathorderserver.order.OrderMenuRepository;
+import shop.project.pathorderserver.order.OrderRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 매출 집계 (daily_sales_tb, daily_menu_sales_tb)
+// 주문이 수령완료되면 바로 반영(upsert)하고, 매일 새벽 최근 며칠은 order_tb 기준으로 다시 계산 (누락 보정)
+// 재계산, 최초 집계는 job_lock_tb 잠금을 잡은 서버 한 대에서만 실행
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SalesService {
+    private static final int REBUILD_DAYS = 3; // 매일 다시 계산하는 기간 (오늘 포함)
+    private static final int MAX_SALES_DAYS = 366; // 매출 조회 최대 기간
+    private static final int BACKFILL_DAYS = 31; // 최초 집계 시 한 트랜잭션에서 계산하는 기간
+    private static final String JOB_LOCK_NAME = "sales-rebuild"; // job_lock_tb 행 (재계산, 최초 집계 공통)
+    private static final long JOB_LOCK_LEASE = 30 * 60 * 1000;
+
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyMenuSalesRepository dailyMenuSalesRepository;
+    private final OrderRepository orderRepository;
+    private final OrderMenuRepository orderMenuRepository;
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String lockOwner = UUID.randomUUID().toString(); // 이 서버(프로세스)
+
+    // 수령완료된 주문 반영 (주문 상태 변경과 같은 트랜잭션)
+    @Transactional
+    public void addServedOrder(Order order) {
+        int storeId = order.getStore().getId();
+        LocalDate salesDate = order.getCreatedAt().toLocalDateTime().toLocalDate();
+        dailySalesRepository.addOrder(storeId, salesDate, order.getTotalPrice());
+
+        // 한 주문에 같은 메뉴가 여러 줄일 수 있어 메뉴 이름별로 합쳐서 반영
+        List<OrderMenu> orderMenus = orderMenuRepository.findAllByOrderId(order.getId()).orElse(List.of());
+        Map<String, List<OrderMenu>> orderMenuMap = orderMenus.stream().collect(Collectors.groupingBy(OrderMenu::getName));
+        orderMenuMap.forEach((menuName, menus) -> {
+            long qty = menus.stream().mapToLong(OrderMenu::getQty).sum();
+            long revenue = menus.stream().mapToLong(OrderMenu::getTotalPrice).sum();
+            dailyMenuSalesRepository.addMenu(storeId, salesDate, menuName, qty, revenue);
+        });
+    }
+
+    // startDate ~ endDate(포함하지 않음) 집계를 지우고 order_tb 기준으로 다시 계산
+    @Transactional
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        dailySalesRepository.deleteAllBetween(startDate, endDate);
+        dailyMenuSalesRepository.deleteAllBetween(startDate, endDate);
+
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atStartOfDay();
+        dailySalesRepository.saveAll(dailySalesRepository.sumServedOrders(startDateTime, endDateTime));
+        dailyMenuSalesRepository.saveAll(dailyMenuSalesRepository.sumServedOrderMenus(startDateTime, endDateTime));
+    }
+
+    @Scheduled(cron = "0 10 4 * * *") // 매일 04:10, 한 서버에서만
+    public void rebuildRecent() {
+        runLocked(() -> {
+            LocalDate today = LocalDate.now();
+            transactionTemplate.executeWithoutResult(status -> rebuild(today.minusDays(REBUILD_DAYS - 1), today.plusDays(1)));
+        });
+    }
+
+    // 서버 시작 시 집계가 비어 있으면 첫 주문부터 전부 계산 (최초 배포, 개발 DB), 한 서버에서만
+    // BACKFILL_DAYS 씩 나눠서 트랜잭션마다 커밋 (전체 기간을 한 트랜잭션으로 잡지 않음)
+    // 중간에 실패하면 daily_sales_tb, daily_menu_sales_tb 를 비우고 다시 시작하면 됨
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        runLocked(() -> {
+            if (dailySalesRepository.count() > 0) {
+                return;
+            }
+            orderRepository.findFirstCreatedAt().ifPresent(firstCreatedAt -> {
+                LocalDate startDate = firstCreatedAt.toLocalDateTime().toLocalDate();
+                LocalDate endDate = LocalDate.now().plusDays(1);
+                for (LocalDate from = startDate; from.isBefore(endDate); ) {
+                    LocalDate chunkStart = from;
+                    LocalDate chunkEnd = from.plusDays(BACKFILL_DAYS).isBefore(endDate) ? from.plusDays(BACKFILL_DAYS) : endDate;
+                    transactionTemplate.executeWithoutResult(status -> rebuild(chunkStart, chunkEnd));
+                    lock(); // 기간이 길면 잠금 연장
+                    from = chunkEnd;
+                }
+                log.info("매출 집계 생성 완료: {} ~ {}", startDate, LocalDate.now());
+            });
+        });
+    }
+
+    // 다른 서버가 실행 중이면 건너뜀, 실패해도 서버 시작을 막지 않음
+    private void runLocked(Runnable job) {
+        if (!lock()) {
+            log.info("매출 집계 작업을 다른 서버에서 실행 중이라 건너뜀");
+            return;
+        }
+        try {
+            job.run();
+        } catch (Exception e) {
+            log.warn("매출 집계 작업 실패: {}", e.getMessage());
+        } finally {
+            jobLockRepository.unlock(JOB_LOCK_NAME, lockOwner, new Timestamp(System.currentTimeMillis()));
+        }
+    }
+
+    private boolean lock() {
+        long now = System.currentTimeMillis();
+        return jobLockRepository.tryLock(JOB_LOCK_NAME, lockOwner, new Timestamp(now), new Timestamp(now + JOB_LOCK_LEASE)) == 1;
+    }
+
+    @Transactional(readOnly = true) // 매장 관리자 - 매출 조회 (startDate ~ endDate 포함, 일/주/월 단위)
+    public SalesResponse.SalesDTO getSales(int storeId, SalesUnit unit, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new App400("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_SALES_DAYS) {
+            throw new App400("매출은 최대 " + MAX_SALES_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        List<DailySales> dailySalesList
+                = dailySalesRepository.findAllByStoreIdAndSalesDateBetween(storeId, startDate, endDate.plusDays(1));
+        List<DailyMenuSales> dailyMenuSalesList
+                = dailyMenuSalesRepository.findAllByStoreIdAndSalesDateBetween(storeId, startDate, endDate.plusDays(1));
+
+        return new SalesResponse.SalesDTO(storeId, unit, startDate, endDate, dailySalesList, dailyMenuSalesList);
+    }
+}
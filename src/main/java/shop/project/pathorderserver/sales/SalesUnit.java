@@ -0,0 +1,29 @@
+package shop.project.pathorderserver.sales;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+@Getter
+public enum SalesUnit {
+    DAY("일별"),
+    WEEK("주별"), // 월요일 시작
+    MONTH("월별");
+
+    private final String value;
+
+    SalesUnit(String value) {
+        this.value = value;
+    }
+
+    // 날짜가 속한 기간의 시작일
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package shop.project.pathorderserver.store;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 손님별 주문 상태 알림 SSE 연결 저장소 + 손님별 최근 이벤트 버퍼
+// 매장과 달리 손님 수만큼 키가 늘어나므로, 연결이 없고 마지막 이벤트가 EVENT_TTL 보다 오래된 손님의 버퍼는 제거
+@Repository
+public class CustomerSseRepository implements SseConnectionRepository {
+    private static final int RECENT_EVENT_SIZE = 20; // 손님별로 보관할 최근 이벤트 수
+    private static final long EVENT_TTL = 5 * 60 * 1000; // 재접속 복구에 필요한 시간
+    private static final long EVICT_INTERVAL = 60 * 1000;
+
+    private final Map<Integer, Map<String, StoreSseConnection>> connections = new ConcurrentHashMap<>();
+    private final Map<Integer, RecentEvents> recentEvents = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(int userId, StoreSseConnection connection) {
+        connections.compute(userId, (key, userConnections) -> { // 삭제(deleteById)와 겹쳐도 연결이 유실되지 않도록 원자적으로 추가
+            Map<String, StoreSseConnection> newConnections = userConnections == null ? new ConcurrentHashMap<>() : userConnections;
+            newConnections.put(connection.getId(), connection);
+            return newConnections;
+        });
+    }
+
+    public Collection<StoreSseConnection> findAllByUserId(int userId) {
+        return connections.getOrDefault(userId, Map.of()).values();
+    }
+
+    public Map<Integer, Map<String, StoreSseConnection>> findAll() {
+        return connections;
+    }
+
+    @Override
+    public void deleteById(int userId, String connectionId) {
+        connections.computeIfPresent(userId, (key, userConnections) -> {
+            userConnections.remove(connectionId);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    // 최근 이벤트 저장 (정리 작업과 겹쳐도 유실되지 않도록 compute 안에서 추가)
+    public void saveEvent(int userId, StoreSseEvent event) {
+        long now = System.currentTimeMillis();
+        recentEvents.compute(userId, (key, events) -> {
+            RecentEvents newEvents = events == null ? new RecentEvents() : events;
+            newEvents.add(event, now);
+            return newEvents;
+        });
+    }
+
+    // lastEventId 이후에 보낸 이벤트 (재접속한 기기가 놓친 이벤트)
+    @Override
+    public List<StoreSseEvent> findEventsAfter(int userId, long lastEventId) {
+        RecentEvents events = recentEvents.get(userId);
+        return events == null ? List.of() : events.findAfter(lastEventId);
+    }
+
+    @Scheduled(fixedDelay = EVICT_INTERVAL)
+    public void evictIdleEvents() {
+        evictIdleEvents(System.currentTimeMillis());
+    }
+
+    void evictIdleEvents(long now) {
+        for (Integer userId : recentEvents.keySet()) {
+            recentEvents.computeIfPresent(userId, (key, events) ->
+                    !connections.containsKey(userId) && events.lastSavedAt <= now - EVENT_TTL ? null : events);
+        }
+    }
+
+    int countRecentEvents() {
+        return recentEvents.size();
+    }
+
+    private static class RecentEvents {
+        private final Deque<StoreSseEvent> events = new ArrayDeque<>();
+        private volatile long lastSavedAt;
+
+        private synchronized void add(StoreSseEvent event, long now) {
+            events.addLast(event);
+            if (events.size() > RECENT_EVENT_SIZE) {
+                events.removeFirst();
+            }
+            lastSavedAt = now;
+        }
+
+        private synchronized List<StoreSseEvent> findAfter(long lastEventId) {
+            return events.stream()
+                    .filter(event -> event.getId() > lastEventId)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package shop.project.pathorderserver.store;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+// DB(store_event_tb)를 브로커로 사용 (서버 여러 대일 때)
+// 발행은 INSERT, 각 서버는 POLL_INTERVAL 마다 마지막으로 읽은 번호 이후의 이벤트를 읽어 자기 구독자에게 전달
+// 번호가 작은 이벤트가 더 늦게 커밋될 수 있으므로 최근 OVERLAP 동안 생성된 이벤트는 다시 읽고, 이미 전달한 번호는 건너뜀
+// 발행은 주문 트랜잭션의 afterCommit 에서 호출되는데 그때는 아직 주문 트랜잭션의 커넥션이 반납되지 않았으므로,
+// 요청 스레드가 커넥션 두 개를 잡지 않도록 INSERT 는 발행 전용 스레드 하나에서 순서대로 실행
+@Slf4j
+@ConditionalOnProperty(name = "sse.event-bus", havingValue = "jdbc")
+@Component
+public class JdbcStoreEventBus implements StoreEventBus {
+    private static final long POLL_INTERVAL = 500;
+    private static final int POLL_SIZE = 500;
+    private static final long RETENTION = 10 * 60 * 1000; // 이 시간이 지난 이벤트는 삭제 (재접속 복구는 각 서버 메모리 버퍼로)
+    private static final long OVERLAP = 5 * 1000; // 늦은 커밋, 서버 간 시계 차이를 덮는 시간
+    private static final int PUBLISH_QUEUE_SIZE = 10_000;
+
+    private final StoreEventRepository storeEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor publishExecutor;
+    private final List<Consumer<StoreSseEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private volatile long lastEventId = -1; // 서버 시작 전 이벤트는 전달하지 않음 (-1 이면 아직 시작 전)
+    private volatile long startedAt;
+    private final Map<Long, Long> deliveredEvents = new HashMap<>(); // 최근 전달한 이벤트 번호 -> 생성 시각 (poll 에서만 사용)
+
+    @Autowired
+    public JdbcStoreEventBus(StoreEventRepository storeEventRepository, PlatformTransactionManager transactionManager) {
+        this(storeEventRepository, transactionManager, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PUBLISH_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "store-event-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    JdbcStoreEventBus(StoreEventRepository storeEventRepository, PlatformTransactionManager transactionManager, Executor publishExecutor) {
+        this.storeEventRepository = storeEventRepository;
+        // 호출한 쪽 트랜잭션과 섞이지 않도록 항상 새 트랜잭션에서 INSERT
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.publishExecutor = publishExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startedAt = System.currentTimeMillis();
+        lastEventId = storeEventRepository.findMaxId();
+    }
+
+    // 이 서버의 구독자에게도 poll 을 거쳐 전달 (번호는 INSERT 때 채번, 모든 서버에서 같은 번호)
+    @Override
+    public void publish(StoreSseEvent event) {
+        try {
+            publishExecutor.execute(() -> {
+                try {
+                    StoreEvent storeEvent = transactionTemplate.execute(status -> storeEventRepository.save(new StoreEvent(event)));
+                    event.setId(storeEvent.getId());
+                } catch (Exception e) {
+                    log.warn("SSE 이벤트 발행 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("SSE 이벤트 발행 대기열이 가득 참, 이벤트 버림: {}", event.getName());
+        }
+    }
+
+    @PreDestroy // 종료 전에 대기 중인 발행을 마저 INSERT
+    public void shutdown() throws InterruptedException {
+        if (publishExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<StoreSseEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Scheduled(fixedDelay = POLL_INTERVAL)
+    public synchronized void poll() {
+        if (lastEventId < 0) {
+            return;
+        }
+        try {
+            long since = Math.max(System.currentTimeMillis() - OVERLAP, startedAt);
+            deliveredEvents.values().removeIf(createdAt -> createdAt < since);
+            // 늦게 커밋된 이벤트 먼저, 그 다음 새 이벤트
+            for (StoreEvent storeEvent : storeEventRepository.findAllRecentUpTo(lastEventId, new Timestamp(since))) {
+                deliver(storeEvent);
+            }
+            for (StoreEvent storeEvent : storeEventRepository.findAllAfter(lastEventId, PageRequest.of(0, POLL_SIZE))) {
+                deliver(storeEvent);
+                lastEventId = storeEvent.getId();
+            }
+        } catch (Exception e) {
+            log.warn("SSE 이벤트 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(StoreEvent storeEvent) {
+        if (deliveredEvents.putIfAbsent(storeEvent.getId(), storeEvent.getCreatedAt().getTime()) != null) {
+            return; // 이미 전달한 이벤트
+        }
+        StoreSseEvent event = storeEvent.toSseEvent();
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    @Scheduled(fixedDelay = RETENTION)
+    public void deleteOldEvents() {
+        transactionTemplate.executeWithoutResult(status ->
+                storeEventRepository.deleteAllBefore(new Timestamp(System.currentTimeMillis() - RETENTION)));
+    }
+}
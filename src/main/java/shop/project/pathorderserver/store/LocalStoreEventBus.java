@@ -0,0 +1,28 @@
+package shop.project.pathorderserver.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 같은 서버 안에서만 전달 (서버 한 대로 운영할 때)
+@ConditionalOnProperty(name = "sse.event-bus", havingValue = "local", matchIfMissing = true)
+@Component
+public class LocalStoreEventBus implements StoreEventBus {
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis()); // 서버 재시작 후에도 번호가 커지도록 현재 시각에서 시작
+    private final List<Consumer<StoreSseEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(StoreSseEvent event) {
+        event.setId(eventSequence.incrementAndGet());
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<StoreSseEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,12 @@
+package shop.project.pathorderserver.store;
+
+import java.util.List;
+
+// SSE 연결, 재접속용 이벤트 버퍼 공통 기능 (매장: StoreSseRepository, 손님: CustomerSseRepository)
+interface SseConnectionRepository {
+    void save(int targetId, StoreSseConnection connection);
+
+    void deleteById(int targetId, String connectionId);
+
+    List<StoreSseEvent> findEventsAfter(int targetId, long lastEventId);
+}
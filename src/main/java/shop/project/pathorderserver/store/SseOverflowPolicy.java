@@ -0,0 +1,7 @@
+package shop.project.pathorderserver.store;
+
+// SSE 연결별 전송 대기열이 가득 찼을 때의 처리 방식
+public enum SseOverflowPolicy {
+    DROP_OLDEST, // 가장 오래된 이벤트를 버리고 새 이벤트를 넣음 (재접속 시 Last-Event-ID 로 복구 가능)
+    DISCONNECT // 연결을 끊음 (브라우저가 재접속하면서 놓친 이벤트를 다시 받음)
+}
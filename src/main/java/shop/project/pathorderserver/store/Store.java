@@ -47,6 +47,11 @@ public class Store {
     @Column(nullable = true)
     private Double longitude; // 주소 좌표 경도
 
+    @ColumnDefault("0")
+    private int likeCount; // 좋아요 수 (StoreCountBuffer 가 주기적으로 반영)
+    @ColumnDefault("0")
+    private int reviewCount; // 리뷰 수 (StoreCountBuffer 가 주기적으로 반영)
+
     @CreationTimestamp
     private Timestamp registeredAt; // 가입일
 
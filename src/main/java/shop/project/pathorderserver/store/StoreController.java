@@ -1,10 +1,11 @@
 package shop.project.pathorderserver.store;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import shop.project.pathorderserver._core.utils.ApiUtil;
 import shop.project.pathorderserver.user.SessionUser;
@@ -15,19 +16,31 @@ import java.util.List;
 @RestController
 public class StoreController {
     private final StoreService storeService;
-    private final HttpSession session;
+    private final HttpServletRequest request; // JWT 인증 결과(sessionUser)는 요청 속성으로 전달됨
 
     @GetMapping("/api/stores")
-    public ResponseEntity<?> storeList() { // 매장 목록보기
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
-        List<StoreResponse.StoreListDTO> respDTO = storeService.getStoreList(sessionUser.getId(), sessionUser.getLatitude(), sessionUser.getLongitude());
+    public ResponseEntity<?> storeList(@RequestParam(name = "radius", defaultValue = "5000") int radius,
+                                       @RequestParam(name = "limit", defaultValue = "50") int limit) { // 매장 목록보기 (반경 미터, 최대 개수)
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
+        List<StoreResponse.StoreListDTO> respDTO = storeService.getStoreList(sessionUser.getId(), sessionUser.getLatitude(), sessionUser.getLongitude(), radius, limit);
+
+        return ResponseEntity.ok(new ApiUtil<>(respDTO));
+    }
+
+    @GetMapping("/api/stores/feed") // 매장 목록보기 - 커서 페이징 (이전 응답의 nextCursorDistance, nextCursorStoreId 를 보냄)
+    public ResponseEntity<?> storeFeed(@RequestParam(name = "radius", defaultValue = "5000") int radius,
+                                       @RequestParam(name = "cursorDistance", required = false) Integer cursorDistance,
+                                       @RequestParam(name = "cursorStoreId", required = false) Integer cursorStoreId,
+                                       @RequestParam(name = "size", defaultValue = "20") int size) {
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
+        StoreResponse.StoreFeedDTO respDTO = storeService.getStoreFeed(sessionUser.getId(), sessionUser.getLatitude(), sessionUser.getLongitude(), radius, cursorDistance, cursorStoreId, size);
 
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
     @GetMapping("/api/stores/{storeId}") // 매장 상세보기
     public ResponseEntity<?> storeInfo(@PathVariable int storeId) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
         double customerLatitude = sessionUser.getLatitude();
         double customerLongitude = sessionUser.getLongitude();
 
@@ -42,17 +55,21 @@ public class StoreController {
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
+    // 메뉴 조회는 ETag(응답 내용의 해시)를 함께 응답, If-None-Match 가 같으면 본문 없이 304 (JSON 변환도 하지 않음)
     @GetMapping("/api/stores/{storeId}/menus") // 매장 메뉴보기
     public ResponseEntity<?> storeMenuList(@PathVariable int storeId) {
-        StoreResponse.StoreMenuListDTO respDTO = storeService.getStoreMenuList(storeId);
+        StoreMenuCache.Snapshot snapshot = storeService.getStoreMenuSnapshot(storeId);
+        StoreResponse.StoreMenuListDTO respDTO = snapshot.getMenuList();
 
-        return ResponseEntity.ok(new ApiUtil<>(respDTO));
+        return ResponseEntity.ok().eTag(snapshot.getETag()).body(new ApiUtil<>(respDTO));
     }
 
     @GetMapping("/api/stores/{storeId}/menus/{menuId}") // 매장 메뉴 옵션보기
     public ResponseEntity<?> storeMenuDetail(@PathVariable int storeId, @PathVariable int menuId) {
-        StoreResponse.StoreMenuOptionDTO respDTO = storeService.getStoreMenuDetail(storeId, menuId);
+        StoreMenuCache.Snapshot snapshot = storeService.getStoreMenuSnapshot(storeId);
+        StoreMenuCache.MenuDetail menuDetail = storeService.getStoreMenuDetail(snapshot, menuId);
+        StoreResponse.StoreMenuOptionDTO respDTO = menuDetail.getMenuOption();
 
-        return ResponseEntity.ok(new ApiUtil<>(respDTO));
+        return ResponseEntity.ok().eTag(menuDetail.getETag()).body(new ApiUtil<>(respDTO));
     }
 }
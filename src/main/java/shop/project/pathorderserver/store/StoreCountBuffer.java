@@ -0,0 +1,114 @@
+package shop.project.pathorderserver.store;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.project.pathorderserver._core.utils.TransactionUtil;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 매장 좋아요 수, 리뷰 수 쓰기 버퍼 (메모리에 모았다가 주기적으로 store_tb 에 반영)
+// 반영은 증감을 더하지 않고 바뀐 매장만 like_tb, review_tb 기준으로 다시 셈 -> 다른 서버 버퍼와 상관없이 틀어지지 않음
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StoreCountBuffer {
+    private static final long FLUSH_INTERVAL = 5 * 1000;
+    private static final long RECOUNT_INTERVAL = 60 * 60 * 1000;
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Integer, LongAdder> likeCounts = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> reviewCounts = new ConcurrentHashMap<>();
+
+    // 정기 재계산 - 종료 전에 반영하지 못한 증감(비정상 종료 등)으로 틀어진 카운터를 맞춤
+    // 다시 세는 방식이라 모든 서버에서 동시에 돌아도 안전, 매장별로 짧은 트랜잭션
+    @Scheduled(fixedDelay = RECOUNT_INTERVAL, initialDelay = RECOUNT_INTERVAL)
+    public void recountAll() {
+        int failCount = 0;
+        for (int storeId : storeRepository.findAllIds()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> storeRepository.recountCounts(storeId));
+            } catch (Exception e) {
+                failCount++;
+                log.warn("매장 카운터 재계산 실패 storeId={}: {}", storeId, e.getMessage());
+            }
+        }
+        log.info("매장 카운터 재계산 완료 실패={}", failCount);
+    }
+
+    // 좋아요 추가(+1) / 삭제(-1), 트랜잭션이 커밋된 뒤에만 반영
+    public void addLikeCount(int storeId, int delta) {
+        TransactionUtil.afterCommit(() -> likeCounts.computeIfAbsent(storeId, key -> new LongAdder()).add(delta));
+    }
+
+    public void addReviewCount(int storeId, int delta) {
+        TransactionUtil.afterCommit(() -> reviewCounts.computeIfAbsent(storeId, key -> new LongAdder()).add(delta));
+    }
+
+    // DB 에 아직 반영되지 않은 좋아요 수
+    public int getPendingLikeCount(int storeId) {
+        LongAdder adder = likeCounts.get(storeId);
+        return adder == null ? 0 : adder.intValue();
+    }
+
+    public int getPendingReviewCount(int storeId) {
+        LongAdder adder = reviewCounts.get(storeId);
+        return adder == null ? 0 : adder.intValue();
+    }
+
+    // 저장된 카운터 + 반영 대기 중인 카운터
+    public int getLikeCount(Store store) {
+        return store.getLikeCount() + getPendingLikeCount(store.getId());
+    }
+
+    public int getReviewCount(Store store) {
+        return store.getReviewCount() + getPendingReviewCount(store.getId());
+    }
+
+    @PreDestroy // 서버 종료 시 남은 증감 반영 (graceful shutdown 으로 요청 처리가 끝난 뒤)
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL)
+    public void flush() {
+        Set<Integer> storeIds = new HashSet<>(likeCounts.keySet());
+        storeIds.addAll(reviewCounts.keySet());
+        storeIds.forEach(this::flush);
+    }
+
+    private void flush(int storeId) {
+        LongAdder likeAdder = likeCounts.get(storeId);
+        LongAdder reviewAdder = reviewCounts.get(storeId);
+        int likeDelta = likeAdder == null ? 0 : likeAdder.intValue();
+        int reviewDelta = reviewAdder == null ? 0 : reviewAdder.intValue();
+        if (likeDelta == 0 && reviewDelta == 0) {
+            return;
+        }
+        // 버퍼(조회용 증감)를 먼저 비우고 DB 에서 다시 셈 (커밋된 증감은 이미 like_tb, review_tb 에 있음)
+        // 반영 중에 들어온 증감은 버퍼에 남아 다음 주기에 다시 셈, 실패하면 뺀 만큼 되돌림
+        add(likeAdder, -likeDelta);
+        add(reviewAdder, -reviewDelta);
+        try {
+            transactionTemplate.executeWithoutResult(status -> storeRepository.recountCounts(storeId));
+        } catch (Exception e) {
+            add(likeAdder, likeDelta);
+            add(reviewAdder, reviewDelta);
+            log.warn("매장 카운터 반영 실패 storeId={}: {}", storeId, e.getMessage());
+        }
+    }
+
+    private void add(LongAdder adder, int delta) {
+        if (adder != null && delta != 0) {
+            adder.add(delta);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package shop.project.pathorderserver.store;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+// 서버 간 SSE 이벤트 전달용 테이블 (JdbcStoreEventBus 가 INSERT 하고 각 서버가 읽어감)
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "store_event_tb")
+public class StoreEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // SSE 이벤트 번호로 그대로 사용 (모든 서버에서 같은 번호)
+
+    @Enumerated(EnumType.STRING)
+    private StoreSseEvent.Channel channel;
+    private int targetId;
+    private String name;
+    @Column(length = 4000)
+    private String data;
+
+    @CreationTimestamp
+    private Timestamp createdAt;
+
+    public StoreEvent(StoreSseEvent event) {
+        this.channel = event.getChannel();
+        this.targetId = event.getTargetId();
+        this.name = event.getName();
+        this.data = event.getData();
+    }
+
+    public StoreSseEvent toSseEvent() {
+        return new StoreSseEvent(id, channel, targetId, name, data);
+    }
+}
@@ -0,0 +1,13 @@
+package shop.project.pathorderserver.store;
+
+import java.util.function.Consumer;
+
+// SSE 이벤트 전달 통로 (서버가 여러 대면 다른 서버에 연결된 기기에도 전달되도록 브로커를 거침)
+// sse.event-bus: local(기본, 서버 한 대) / jdbc(DB 를 브로커로 사용)
+public interface StoreEventBus {
+
+    // 이벤트 번호를 채번해서 모든 서버의 구독자에게 전달
+    void publish(StoreSseEvent event);
+
+    void subscribe(Consumer<StoreSseEvent> subscriber);
+}
@@ -0,0 +1,26 @@
+package shop.project.pathorderserver.store;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public interface StoreEventRepository extends JpaRepository<StoreEvent, Long> {
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM StoreEvent e")
+    long findMaxId();
+
+    @Query("SELECT e FROM StoreEvent e WHERE e.id > :lastEventId ORDER BY e.id")
+    List<StoreEvent> findAllAfter(@Param("lastEventId") long lastEventId, Pageable pageable); // lastEventId 이후 이벤트
+
+    // 번호는 INSERT 순서, 커밋은 다른 순서일 수 있음 -> lastEventId 이전 번호 중 최근에 생성된 이벤트를 다시 읽어 늦게 커밋된 것을 찾음
+    @Query("SELECT e FROM StoreEvent e WHERE e.id <= :lastEventId AND e.createdAt >= :createdAt ORDER BY e.id")
+    List<StoreEvent> findAllRecentUpTo(@Param("lastEventId") long lastEventId, @Param("createdAt") Timestamp createdAt);
+
+    @Modifying
+    @Query("DELETE FROM StoreEvent e WHERE e.createdAt < :createdAt")
+    int deleteAllBefore(@Param("createdAt") Timestamp createdAt);
+}
@@ -0,0 +1,135 @@
+package shop.project.pathorderserver.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import shop.project.pathorderserver._core.utils.DistanceUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 매장 좌표 격자 인덱스 (위도/경도를 CELL_SIZE 단위 칸으로 나누어 근처 칸만 조회)
+@RequiredArgsConstructor
+@Component
+public class StoreLocationIndex {
+    private static final double CELL_SIZE = 0.01; // 격자 한 칸의 크기(도), 위도 기준 약 1.1km
+    private static final double METERS_PER_DEGREE = 111_320.0; // 위도 1도의 거리(미터)
+    private static final Comparator<NearbyStore> ORDER // 가까운 순, 거리가 같으면 매장 번호 순
+            = Comparator.comparingInt(NearbyStore::getDistance).thenComparingInt(NearbyStore::getStoreId);
+
+    private final StoreRepository storeRepository;
+    private final Map<Long, Map<Integer, Location>> grid = new ConcurrentHashMap<>();
+    private final Map<Integer, Location> locations = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class) // 서버 시작 시 전체 매장 좌표 적재
+    public void load() {
+        storeRepository.findAll().forEach(this::put);
+    }
+
+    public void put(Store store) {
+        put(store.getId(), store.getLatitude(), store.getLongitude());
+    }
+
+    public synchronized void put(int storeId, Double latitude, Double longitude) {
+        remove(storeId);
+        if (latitude == null || longitude == null) { // 좌표가 없는 매장은 위치 검색에서 제외
+            return;
+        }
+        Location location = new Location(storeId, latitude, longitude);
+        locations.put(storeId, location);
+        grid.computeIfAbsent(cellKey(row(latitude), col(longitude)), key -> new ConcurrentHashMap<>())
+                .put(storeId, location);
+    }
+
+    public synchronized void remove(int storeId) {
+        Location location = locations.remove(storeId);
+        if (location == null) {
+            return;
+        }
+        long key = cellKey(row(location.getLatitude()), col(location.getLongitude()));
+        Map<Integer, Location> cell = grid.get(key);
+        if (cell != null) {
+            cell.remove(storeId);
+            if (cell.isEmpty()) {
+                grid.remove(key);
+            }
+        }
+    }
+
+    // 반경(미터) 안의 매장을 가까운 순(거리, 매장 번호)으로 limit 개까지 조회
+    public List<NearbyStore> findNearby(double latitude, double longitude, int radius, int limit) {
+        return findNearby(latitude, longitude, radius, null, limit);
+    }
+
+    // 커서(거리, 매장 번호) 다음부터 limit 개까지 조회, 커서가 null 이면 처음부터
+    public List<NearbyStore> findNearby(double latitude, double longitude, int radius, NearbyStore cursor, int limit) {
+        List<NearbyStore> nearbyStores = new ArrayList<>();
+        for (Location location : candidates(latitude, longitude, radius)) {
+            int distance = DistanceUtil.calculateDistance(latitude, longitude, location.getLatitude(), location.getLongitude());
+            NearbyStore nearbyStore = new NearbyStore(location.getStoreId(), distance);
+            if (distance <= radius && (cursor == null || ORDER.compare(nearbyStore, cursor) > 0)) {
+                nearbyStores.add(nearbyStore);
+            }
+        }
+        return nearbyStores.stream()
+                .sorted(ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    private Collection<Location> candidates(double latitude, double longitude, int radius) {
+        double latDelta = radius / METERS_PER_DEGREE;
+        double lonDelta = radius / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        int minRow = row(latitude - latDelta), maxRow = row(latitude + latDelta);
+        int minCol = col(longitude - lonDelta), maxCol = col(longitude + lonDelta);
+
+        long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellCount > grid.size()) { // 반경이 너무 넓으면 칸을 도는 것보다 전체를 도는 게 싸다
+            return locations.values();
+        }
+        List<Location> candidates = new ArrayList<>();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                Map<Integer, Location> cell = grid.get(cellKey(row, col));
+                if (cell != null) {
+                    candidates.addAll(cell.values());
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_SIZE);
+    }
+
+    private static int col(double longitude) {
+        return (int) Math.floor(longitude / CELL_SIZE);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    @Data
+    @AllArgsConstructor
+    private static class Location {
+        private int storeId;
+        private double latitude;
+        private double longitude;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class NearbyStore {
+        private int storeId;
+        private int distance; // 미터
+    }
+}
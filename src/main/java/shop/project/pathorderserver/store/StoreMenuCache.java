@@ -0,0 +1,118 @@
+package shop.project.pathorderserver.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.project.pathorderserver._core.utils.TransactionUtil;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 매장별 메뉴 스냅샷 캐시 (손님 앱 메뉴 목록, 메뉴 옵션보기)
+// 메뉴 등록, 수정, 삭제가 커밋되면 스냅샷을 버림
+// ETag 는 응답 내용의 해시 (서버, 재시작, TTL 만료와 상관없이 내용이 같으면 같은 ETag)
+@RequiredArgsConstructor
+@Component
+public class StoreMenuCache {
+    private static final long TTL = 10 * 60 * 1000; // 다른 서버에서 수정된 메뉴도 이 시간이 지나면 반영
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>(); // 매장 번호 -> 이 서버의 메뉴 변경 버전 (불러오는 동안 바뀌었는지 확인용)
+    private final Map<Integer, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public Snapshot get(int storeId, Supplier<StoreResponse.StoreMenuListDTO> loader) {
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(storeId);
+        if (snapshot != null && !snapshot.isExpired(now)) {
+            return snapshot;
+        }
+        long version = versions.computeIfAbsent(storeId, key -> versionSequence.incrementAndGet());
+        StoreResponse.StoreMenuListDTO menuList = loader.get();
+        Snapshot loaded = new Snapshot(storeId, version, menuList, eTag(menuList), now + TTL);
+        if (isCacheable()) {
+            // 불러오는 동안 메뉴가 수정됐으면 저장하지 않음 (수정 전 메뉴가 남지 않도록)
+            snapshots.compute(storeId, (key, old) -> versions.get(storeId) == version ? loaded : old);
+        }
+        return loaded;
+    }
+
+    public MenuDetail getMenuDetail(Snapshot snapshot, int menuId, Supplier<StoreResponse.StoreMenuOptionDTO> loader) {
+        MenuDetail menuDetail = snapshot.menuDetails.get(menuId);
+        if (menuDetail != null) {
+            return menuDetail;
+        }
+        StoreResponse.StoreMenuOptionDTO menuOption = loader.get();
+        menuDetail = new MenuDetail(menuOption, eTag(menuOption));
+        if (isCacheable() && versions.get(snapshot.storeId) == snapshot.version) {
+            snapshot.menuDetails.put(menuId, menuDetail);
+        }
+        return menuDetail;
+    }
+
+    // 메뉴 변경이 커밋된 뒤에 버전을 올리고 스냅샷 제거 (롤백되면 그대로)
+    public void evict(int storeId) {
+        TransactionUtil.afterCommit(() -> {
+            versions.put(storeId, versionSequence.incrementAndGet());
+            snapshots.remove(storeId);
+        });
+    }
+
+    // 응답 본문(JSON)의 SHA-256, 불러올 때 한 번만 계산
+    private String eTag(Object body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(body));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("메뉴 ETag 를 만들 수 없습니다.", e);
+        }
+    }
+
+    // 커밋되지 않은 변경을 읽었을 수 있는 쓰기 트랜잭션 안에서는 캐시에 저장하지 않음
+    private boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public static class Snapshot {
+        private final int storeId;
+        private final long version;
+        @Getter
+        private final StoreResponse.StoreMenuListDTO menuList;
+        @Getter
+        private final String eTag;
+        private final Map<Integer, MenuDetail> menuDetails = new ConcurrentHashMap<>(); // 메뉴 번호 -> 옵션보기 (조회될 때 채움)
+        private final long expiresAt;
+
+        private Snapshot(int storeId, long version, StoreResponse.StoreMenuListDTO menuList, String eTag, long expiresAt) {
+            this.storeId = storeId;
+            this.version = version;
+            this.menuList = menuList;
+            this.eTag = eTag;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    @Getter
+    public static class MenuDetail {
+        private final StoreResponse.StoreMenuOptionDTO menuOption;
+        private final String eTag;
+
+        private MenuDetail(StoreResponse.StoreMenuOptionDTO menuOption, String eTag) {
+            this.menuOption = menuOption;
+            this.eTag = eTag;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package shop.project.pathorderserver.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shop.project.pathorderserver._core.utils.TransactionUtil;
+import shop.project.pathorderserver.order.OrderRepository;
+import shop.project.pathorderserver.order.OrderStatus;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 매장별 주문 상태 카운터 (주문 전체를 조회하지 않고 접수 대기 주문 수 응답)
+// 접수 대기 주문 수가 바뀌면 매장 화면으로 SSE 전송
+@RequiredArgsConstructor
+@Component
+public class StoreOrderCounter {
+    private static final long SYNC_INTERVAL = 60 * 1000; // 다른 서버에서 바뀐 주문도 반영되도록 주기적으로 DB 기준 재계산
+    private static final List<OrderStatus> COUNTED_STATUSES // 처리중인 상태만 셈 (완료/거절 주문은 계속 쌓이므로 제외)
+            = List.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.PREPARED);
+
+    private final OrderRepository orderRepository;
+    private final StoreSseService storeSseService;
+    private final Map<Integer, StoreCount> counts = new ConcurrentHashMap<>(); // 매장 번호 -> 상태별(ordinal) 주문 수
+
+    @EventListener(ApplicationReadyEvent.class) // 서버 시작 시 order_tb 기준으로 카운터 생성
+    @Scheduled(fixedDelay = SYNC_INTERVAL, initialDelay = SYNC_INTERVAL)
+    public void sync() {
+        Map<Integer, Long> versions = new HashMap<>(); // 조회 전 매장별 변경 횟수
+        counts.forEach((storeId, count) -> versions.put(storeId, count.version));
+        Map<Integer, int[]> newCounts = new HashMap<>();
+        for (StoreResponse.OrderStatusCountDTO countDTO : orderRepository.countGroupByStoreIdAndStatusIn(COUNTED_STATUSES)) {
+            newCounts.computeIfAbsent(countDTO.getStoreId(), key -> new int[OrderStatus.values().length])
+                    [countDTO.getStatus().ordinal()] = countDTO.getCount().intValue();
+        }
+
+        Set<Integer> storeIds = new HashSet<>(versions.keySet());
+        storeIds.addAll(newCounts.keySet());
+        Map<Integer, Integer> pendingChanges = new HashMap<>();
+        for (int storeId : storeIds) {
+            int[] newCount = newCounts.getOrDefault(storeId, new int[OrderStatus.values().length]);
+            // change() 와 같은 키 잠금(compute) 안에서 교체, 조회하는 동안 바뀐 매장은 메모리 값을 두고 다음 주기에 맞춤
+            counts.compute(storeId, (key, count) -> {
+                if (count == null) {
+                    return newCounts.containsKey(storeId) ? new StoreCount(newCount) : null;
+                }
+                if (count.version != versions.getOrDefault(storeId, -1L)) {
+                    return count;
+                }
+                int pendingIndex = OrderStatus.PENDING.ordinal();
+                if (count.counts.get(pendingIndex) != newCount[pendingIndex]) {
+                    pendingChanges.put(storeId, newCount[pendingIndex]);
+                }
+                return newCounts.containsKey(storeId) ? new StoreCount(newCount) : null;
+            });
+        }
+        pendingChanges.forEach(storeSseService::createPendingOrderCountNotification);
+    }
+
+    // 주문 생성, 트랜잭션이 커밋된 뒤에만 반영
+    public void add(int storeId, OrderStatus status) {
+        TransactionUtil.afterCommit(() -> change(storeId, null, status));
+    }
+
+    // 주문 상태 변경
+    public void move(int storeId, OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> change(storeId, from, to));
+    }
+
+    // 처리중인 상태(COUNTED_STATUSES)만 조회 가능
+    public int getCount(int storeId, OrderStatus status) {
+        if (!COUNTED_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("처리중인 주문 상태만 셉니다: " + status);
+        }
+        StoreCount count = counts.get(storeId);
+        return count == null ? 0 : count.counts.get(status.ordinal());
+    }
+
+    private void change(int storeId, OrderStatus from, OrderStatus to) {
+        boolean fromCounted = from != null && COUNTED_STATUSES.contains(from);
+        boolean toCounted = COUNTED_STATUSES.contains(to);
+        if (!fromCounted && !toCounted) {
+            return;
+        }
+        int[] pendingCount = new int[1];
+        counts.compute(storeId, (key, count) -> {
+            if (count == null) {
+                count = new StoreCount(new int[OrderStatus.values().length]);
+            }
+            if (fromCounted) {
+                count.counts.decrementAndGet(from.ordinal());
+            }
+            if (toCounted) {
+                count.counts.incrementAndGet(to.ordinal());
+            }
+            count.version++;
+            pendingCount[0] = count.counts.get(OrderStatus.PENDING.ordinal());
+            return count;
+        });
+        if (from == OrderStatus.PENDING || to == OrderStatus.PENDING) {
+            storeSseService.createPendingOrderCountNotification(storeId, pendingCount[0]);
+        }
+    }
+
+    private static class StoreCount {
+        private final AtomicIntegerArray counts;
+        private volatile long version; // change() 마다 증가 (compute 안에서만 변경)
+
+        private StoreCount(int[] counts) {
+            this.counts = new AtomicIntegerArray(counts);
+        }
+    }
+}
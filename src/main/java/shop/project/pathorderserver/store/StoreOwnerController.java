@@ -1,9 +1,12 @@
 package shop.project.pathorderserver.store;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -12,7 +15,11 @@ import org.springframework.web.bind.annotation.*;
 import shop.project.pathorderserver._core.errors.WebRequest;
 import shop.project.pathorderserver._core.errors.exception.Web403;
 import shop.project.pathorderserver._core.utils.ApiUtil;
+import shop.project.pathorderserver.sales.SalesResponse;
+import shop.project.pathorderserver.sales.SalesService;
+import shop.project.pathorderserver.sales.SalesUnit;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 
@@ -21,6 +28,7 @@ import java.util.HashMap;
 public class StoreOwnerController {
     private final HttpSession session;
     private final StoreService storeService;
+    private final SalesService salesService;
 
     @GetMapping("/") // index
     public String index() {
@@ -118,33 +126,80 @@ public class StoreOwnerController {
 
     /*------------------------------------------------------------------------------------- 지난 주문 ------------------*/
 
-    @GetMapping("/stores/{storeId}/orders/history") // 매장 관리자 - 주문내역 목록보기
-    public String orderList(@PathVariable int storeId, Model model) {
+    @GetMapping("/stores/{storeId}/orders/history") // 매장 관리자 - 주문내역 목록보기 (다음 페이지는 이전 응답의 nextCursorId 를 보냄)
+    public String orderList(@PathVariable int storeId,
+                            @RequestParam(name = "cursorId", required = false) Integer cursorId,
+                            @RequestParam(name = "size", defaultValue = "20") int size, Model model) {
         SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
         if (storeId != sessionStore.getId()) {
             throw new Web403("권한이 없습니다.");
         }
-        StoreResponse.OrderListDTO respDTO = storeService.getOrderList(storeId);
-        model.addAttribute("orders", respDTO.getOrderList());
-        // model.addAttribute("storeId", storeId);
+        StoreResponse.OrderListDTO respDTO = storeService.getOrderList(storeId, cursorId, size);
+        model.addAttribute("orderPage", respDTO);
+        model.addAttribute("storeId", storeId);
         return "order-list";
     }
 
+    @GetMapping("/stores/{storeId}/orders/history/more") // 매장 관리자 - 주문내역 더보기 (목록 화면에 이어 붙일 다음 페이지)
+    public ResponseEntity<?> orderListMore(@PathVariable int storeId,
+                                           @RequestParam(name = "cursorId", required = false) Integer cursorId,
+                                           @RequestParam(name = "size", defaultValue = "20") int size) {
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        if (storeId != sessionStore.getId()) {
+            throw new Web403("권한이 없습니다.");
+        }
+        StoreResponse.OrderListDTO respDTO = storeService.getOrderList(storeId, cursorId, size);
+
+        return ResponseEntity.ok().body(respDTO);
+    }
+
     @GetMapping("/stores/{storeId}/orders/history/date") // 매장 관리자 - 주문내역 날짜로 조회
     public ResponseEntity<?> orderListSortByDate(@PathVariable int storeId,
                                                  @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-                                                 @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate, Model model) {
+                                                 @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                                                 @RequestParam(name = "cursorId", required = false) Integer cursorId,
+                                                 @RequestParam(name = "size", defaultValue = "20") int size) {
         SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
         if (storeId != sessionStore.getId()) {
             throw new Web403("권한이 없습니다.");
         }
-        StoreResponse.OrderListDTO respDTO = storeService.getOrderListByDate(storeId, startDate, endDate);
-        model.addAttribute("orders", respDTO.getOrderList());
-        model.addAttribute("storeId", sessionStore.getId());
+        StoreResponse.OrderListDTO respDTO = storeService.getOrderListByDate(storeId, startDate, endDate, cursorId, size);
 
         return ResponseEntity.ok().body(respDTO);
     }
 
+    @GetMapping("/stores/{storeId}/orders/export") // 매장 관리자 - 주문내역 내보내기 (CSV 파일로 바로 전송)
+    public void orderExport(@PathVariable int storeId,
+                            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+                            HttpServletResponse response) throws IOException {
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        if (storeId != sessionStore.getId()) {
+            throw new Web403("권한이 없습니다.");
+        }
+        storeService.checkExportPeriod(startDate, endDate); // 잘못된 기간이면 CSV 헤더 없이 에러 페이지
+        String filename = "orders_" + storeId + "_" + startDate + "_" + endDate + ".csv";
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        storeService.exportOrders(storeId, startDate, endDate, response.getWriter());
+    }
+
+    /*------------------------------------------------------------------------------------- 매출 ----------------------*/
+
+    @GetMapping("/stores/{storeId}/sales") // 매장 관리자 - 매출 조회 (unit: DAY, WEEK, MONTH)
+    public ResponseEntity<?> sales(@PathVariable int storeId,
+                                   @RequestParam(name = "unit", defaultValue = "DAY") SalesUnit unit,
+                                   @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                   @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        if (storeId != sessionStore.getId()) {
+            throw new Web403("권한이 없습니다.");
+        }
+        SalesResponse.SalesDTO respDTO = salesService.getSales(storeId, unit, startDate, endDate);
+
+        return ResponseEntity.ok(new ApiUtil<>(respDTO));
+    }
+
     /*------------------------------------------------------------------------------------- 메뉴 ----------------------*/
 
     @GetMapping("/stores/{storeId}/menus") // 매장 메뉴 목록보기
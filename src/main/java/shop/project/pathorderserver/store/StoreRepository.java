@@ -1,10 +1,35 @@
 package shop.project.pathorderserver.store;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Integer> {
-    Optional<Store> findByUsernameAndPassword(@Param("username") String username, @Param("password") String password);
+    Optional<Store> findByUsername(@Param("username") String username);
+
+    // 로그인 성공 시 평문(또는 이전 cost) 비밀번호를 새 해시로 교체, 그 사이 비밀번호가 바뀌었으면 반영하지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE Store s SET s.password = :newPassword WHERE s.id = :storeId AND s.password = :oldPassword")
+    int updatePassword(@Param("storeId") int storeId, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
+
+    // 좋아요 수, 리뷰 수를 like_tb, review_tb 기준으로 다시 셈
+    // 증감을 더하지 않고 매번 새로 세므로 여러 서버가 동시에, 몇 번을 실행해도 결과가 같음
+    // (store_tb 행 잠금을 잡은 채 커밋된 최신 like_tb, review_tb 를 읽음)
+    @Modifying
+    @Query("""
+            UPDATE Store s
+            SET s.likeCount = (SELECT count(l.id) FROM Like l WHERE l.store.id = :storeId),
+                s.reviewCount = (SELECT count(r.id) FROM Review r WHERE r.store.id = :storeId)
+            WHERE s.id = :storeId
+            """)
+    int recountCounts(@Param("storeId") int storeId);
+
+    @Query("SELECT s.id FROM Store s ORDER BY s.id")
+    List<Integer> findAllIds(); // 카운터 정기 재계산용
 }
@@ -117,6 +117,7 @@ public class StoreRequest {
 
         @Data
         public static class MenuOptionDTO {
+            private Integer id; // 기존 옵션 번호 (새 옵션이면 null, 없으면 이름으로 기존 옵션을 찾음)
             private int price;
             private String name;
             private boolean isRequired;
@@ -1,5 +1,6 @@
 package shop.project.pathorderserver.store;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import shop.project.pathorderserver._core.utils.FileUtil;
@@ -83,6 +84,25 @@ public class StoreResponse {
         }
     }
 
+    @Data // 매장 목록보기 - 커서 페이징
+    public static class StoreFeedDTO {
+        private List<StoreListDTO> storeList;
+        private boolean hasNext;
+        // 다음 페이지 요청 시 보낼 커서 (마지막 매장의 거리, 매장 번호)
+        private Integer nextCursorDistance;
+        private Integer nextCursorStoreId;
+
+        public StoreFeedDTO(List<StoreListDTO> storeList, List<StoreLocationIndex.NearbyStore> nearbyStores, boolean hasNext) {
+            this.storeList = storeList;
+            this.hasNext = hasNext;
+            if (hasNext) {
+                StoreLocationIndex.NearbyStore last = nearbyStores.getLast();
+                this.nextCursorDistance = last.getDistance();
+                this.nextCursorStoreId = last.getStoreId();
+            }
+        }
+    }
+
     @Data // 매장 상세보기
     public static class StoreInfoDTO {
         private int id;
@@ -249,7 +269,6 @@ public class StoreResponse {
         private String bizNum;
         // 로그인 정보
         private String username;
-        private String password;
 
         public StoreDTO(Store store) {
             this.id = store.getId();
@@ -266,7 +285,6 @@ public class StoreResponse {
             this.ownerEmail = store.getOwnerEmail();
             this.bizNum = store.getBizNum();
             this.username = store.getUsername();
-            this.password = store.getPassword();
         }
     }
 
@@ -412,11 +430,13 @@ public class StoreResponse {
 
         @Data
         public static class MenuOptionDTO {
+            private int id;
             private int price;
             private String name;
             private boolean isRequired;
 
             public MenuOptionDTO(MenuOption menuOption) {
+                this.id = menuOption.getId();
                 this.price = menuOption.getPrice();
                 this.name = menuOption.getName();
                 this.isRequired = menuOption.isRequired();
@@ -463,12 +483,18 @@ public class StoreResponse {
         }
     }
     */
-    @Data // 매장 관리자 - 주문내역 목록보기
+    @Data // 매장 관리자 - 주문내역 목록보기 (주문 번호 커서 기반 페이징)
     public static class OrderListDTO {
         private List<OrderDTO> orderList;
-
-        public OrderListDTO(List<Order> orders) {
-            this.orderList = orders.stream().map((Order order) -> new OrderDTO(order, order.getOrderMenus())).toList();
+        private boolean hasNext;
+        private Integer nextCursorId; // 다음 페이지 요청 시 보낼 커서 (마지막 주문 번호)
+
+        public OrderListDTO(List<OrderDTO> orderList, boolean hasNext) {
+            this.orderList = orderList;
+            this.hasNext = hasNext;
+            if (hasNext) {
+                this.nextCursorId = orderList.getLast().getOrderId();
+            }
         }
 
         @Data
@@ -480,25 +506,17 @@ public class StoreResponse {
             //            private OrderStatus status;
             private String status;
             private Timestamp createdAt;
-            private List<OrderMenuDTO> orderMenus;
+            private List<OrdersDTO.OrderMenuDTO> orderMenus;
             private int totalPrice;
 
-            public OrderDTO(Order order, List<OrderMenu> orderMenus) {
-                this.orderId = order.getId();
-                this.status = order.getStatus().getValue();
-                this.createdAt = order.getCreatedAt();
-                this.orderMenus = orderMenus.stream().map(OrderMenuDTO::new).toList();
-                this.totalPrice = order.getTotalPrice();
-                this.customerNickname = order.getCustomerNickname();
-            }
-
-            @Data
-            public class OrderMenuDTO {
-                private String name;
-
-                public OrderMenuDTO(OrderMenu orderMenu) {
-                    this.name = orderMenu.getName();
-                }
+            // 주문내역 조회용 (메뉴는 따로 조회해서 채움)
+            public OrderDTO(Integer orderId, OrderStatus status, String customerNickname, Timestamp createdAt, Integer totalPrice) {
+                this.orderId = orderId;
+                this.status = status.getValue();
+                this.customerNickname = customerNickname;
+                this.createdAt = createdAt;
+                this.orderMenus = new ArrayList<>();
+                this.totalPrice = totalPrice;
             }
 
             public String getCreatedAt() {
@@ -510,7 +528,7 @@ public class StoreResponse {
 
             public String getOrderMenus() {
                 StringJoiner orderMenusWithComma = new StringJoiner(", ");
-                for (OrderMenuDTO orderMenu : orderMenus) {
+                for (OrdersDTO.OrderMenuDTO orderMenu : orderMenus) {
                     orderMenusWithComma.add(orderMenu.getName());
                 }
                 return FormatUtil.stringFormatter(orderMenusWithComma.toString());
@@ -518,6 +536,19 @@ public class StoreResponse {
         }
     }
 
+    @Data // 매장 관리자 - 주문내역 내보내기 (CSV 한 줄 = 주문 메뉴 한 줄)
+    @AllArgsConstructor
+    public static class OrderExportDTO {
+        private Integer orderId;
+        private Timestamp createdAt;
+        private OrderStatus status;
+        private String customerNickname;
+        private Integer totalPrice;
+        private String menuName; // 메뉴가 없는 주문이면 null
+        private Integer menuQty;
+        private Integer menuTotalPrice;
+    }
+
     @Data // 매장 관리자 - 주문내역 상세보기
     public static class OrderDetailDTO {
         // 손님 정보
@@ -608,6 +639,15 @@ public class StoreResponse {
             return localDateTime.format(formatter);
         }
 
+        // 주문 현황판 조회용 (메뉴는 따로 조회해서 채움)
+        public OrdersDTO(Integer orderId, OrderStatus status, String customerNickname, Timestamp createdAt) {
+            this.orderId = orderId;
+            this.status = status;
+            this.customerNickname = customerNickname;
+            this.createdAt = createdAt;
+            this.menuList = new ArrayList<>();
+        }
+
         @Builder
         public OrdersDTO(Order order, List<OrderMenu> menuList) {
             this.orderId = order.getId();
@@ -619,6 +659,7 @@ public class StoreResponse {
 
         @Data
         public static class OrderMenuDTO {
+            private Integer orderId;
             private String name;
             private int qty;
 
@@ -626,9 +667,23 @@ public class StoreResponse {
                 this.name = orderMenu.getName();
                 this.qty = orderMenu.getQty();
             }
+
+            public OrderMenuDTO(Integer orderId, String name, Integer qty) {
+                this.orderId = orderId;
+                this.name = name;
+                this.qty = qty;
+            }
         }
     }
 
+    @Data // 매장별, 주문 상태별 주문 수 (StoreOrderCounter 재계산용)
+    @AllArgsConstructor
+    public static class OrderStatusCountDTO {
+        private Integer storeId;
+        private OrderStatus status;
+        private Long count;
+    }
+
 //    @Data
 //    public static class PendingOrderCountDTO {
 //        private int storeId;
@@ -1,27 +1,41 @@
 package shop.project.pathorderserver.store;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.project.pathorderserver._core.PasswordHasher;
+import shop.project.pathorderserver._core.errors.exception.App400;
 import shop.project.pathorderserver._core.errors.exception.App404;
+import shop.project.pathorderserver._core.errors.exception.Web400;
 import shop.project.pathorderserver._core.errors.exception.Web401;
 import shop.project.pathorderserver._core.errors.exception.Web403;
 import shop.project.pathorderserver._core.errors.exception.Web404;
+import shop.project.pathorderserver._core.errors.exception.Web503;
+import shop.project.pathorderserver._core.utils.CsvUtil;
 import shop.project.pathorderserver._core.utils.DistanceUtil;
+import shop.project.pathorderserver._core.utils.TransactionUtil;
 import shop.project.pathorderserver.like.LikeService;
+import shop.project.pathorderserver.like.LikedStoreCache;
 import shop.project.pathorderserver.menu.Menu;
 import shop.project.pathorderserver.menu.MenuOption;
 import shop.project.pathorderserver.menu.MenuOptionRepository;
 import shop.project.pathorderserver.menu.MenuRepository;
 import shop.project.pathorderserver.order.*;
-import shop.project.pathorderserver.review.ReviewRepository;
+import shop.project.pathorderserver.sales.SalesService;
+import shop.project.pathorderserver.user.UserResponse;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
@@ -32,26 +46,73 @@ public class StoreService {
     private final OrderRepository orderRepository;
     private final OrderMenuRepository orderMenuRepository;
     private final LikeService likeService;
-    private final ReviewRepository reviewRepository;
+    private final StoreLocationIndex storeLocationIndex;
+    private final StoreCountBuffer storeCountBuffer;
+    private final StoreSseService storeSseService;
+    private final StoreOrderCounter storeOrderCounter;
+    private final SalesService salesService;
+    private final StoreMenuCache storeMenuCache;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_NEARBY_RADIUS = 20_000; // 매장 목록 최대 반경(미터)
+    private static final int MAX_NEARBY_LIMIT = 100; // 매장 목록 최대 개수
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES // 주문 현황판에 보이는 상태 (접수대기, 조리중, 조리완료)
+            = List.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.PREPARED);
+    private static final List<OrderStatus> DATE_HISTORY_EXCLUDED_STATUSES // 날짜별 주문내역에서 빼는 상태 (처리중인 주문, 주문완료)
+            = List.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.PREPARED, OrderStatus.CONFIRMED);
+    private static final int MAX_HISTORY_SIZE = 100; // 주문내역 한 페이지 최대 개수
+    private static final int MAX_EXPORT_DAYS = 366; // 주문내역 내보내기 최대 기간
+    private static final String PASSWORD_BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
 
-    public int getReviewCount(int storeId) {
-        return reviewRepository.findReviewCountByStoreId(storeId);
+    // 매장 목록보기
+    public List<StoreResponse.StoreListDTO> getStoreList(int userId, double customerLatitude, double customerLongitude, int radius, int limit) {
+        if (limit < 1) {
+            throw new App400("조회 개수는 1 이상이어야 합니다.");
+        }
+        List<StoreLocationIndex.NearbyStore> nearbyStores // 반경 안의 매장만 가까운 순으로
+                = storeLocationIndex.findNearby(customerLatitude, customerLongitude, Math.min(radius, MAX_NEARBY_RADIUS), Math.min(limit, MAX_NEARBY_LIMIT));
+
+        return toStoreList(userId, nearbyStores);
     }
 
-    // 매장 목록보기
-    public List<StoreResponse.StoreListDTO> getStoreList(int userId, double customerLatitude, double customerLongitude) {
-        List<Store> stores = storeRepository.findAll();
+    // 매장 목록보기 - 커서(거리, 매장 번호) 기반 페이징
+    public StoreResponse.StoreFeedDTO getStoreFeed(int userId, double customerLatitude, double customerLongitude, int radius, Integer cursorDistance, Integer cursorStoreId, int size) {
+        if ((cursorDistance == null) != (cursorStoreId == null)) {
+            throw new App400("커서는 거리와 매장 번호를 함께 보내주세요.");
+        }
+        if (size < 1) {
+            throw new App400("조회 개수는 1 이상이어야 합니다.");
+        }
+        StoreLocationIndex.NearbyStore cursor
+                = (cursorDistance == null) ? null : new StoreLocationIndex.NearbyStore(cursorStoreId, cursorDistance);
+        int pageSize = Math.min(size, MAX_NEARBY_LIMIT);
+        List<StoreLocationIndex.NearbyStore> nearbyStores // 다음 페이지 여부 확인을 위해 하나 더 조회
+                = storeLocationIndex.findNearby(customerLatitude, customerLongitude, Math.min(radius, MAX_NEARBY_RADIUS), cursor, pageSize + 1);
+        boolean hasNext = nearbyStores.size() > pageSize;
+        if (hasNext) {
+            nearbyStores = nearbyStores.subList(0, pageSize);
+        }
 
-        return stores.stream()
-                .map(store -> {
-                    int likeCount = likeService.getStoreLikeCount(store.getId());
-                    boolean isLiked = likeService.isUserLikedStore(userId, store.getId());
-                    int reviewCount = getReviewCount(store.getId());
-                    int distance = DistanceUtil.calculateDistance(customerLatitude, customerLongitude, store.getLatitude(), store.getLongitude());
+        return new StoreResponse.StoreFeedDTO(toStoreList(userId, nearbyStores), nearbyStores, hasNext);
+    }
 
-                    return new StoreResponse.StoreListDTO(store, likeCount, isLiked, reviewCount, distance);
+    private List<StoreResponse.StoreListDTO> toStoreList(int userId, List<StoreLocationIndex.NearbyStore> nearbyStores) {
+        List<Integer> storeIds = nearbyStores.stream().map(StoreLocationIndex.NearbyStore::getStoreId).toList();
+        Map<Integer, Store> storeMap = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+        LikedStoreCache.StoreIdSet likedStoreIds = likeService.getLikedStoreIds(userId);
+
+        return nearbyStores.stream()
+                .filter(nearbyStore -> storeMap.containsKey(nearbyStore.getStoreId()))
+                .map(nearbyStore -> {
+                    Store store = storeMap.get(nearbyStore.getStoreId());
+                    int likeCount = storeCountBuffer.getLikeCount(store);
+                    boolean isLiked = likedStoreIds.contains(store.getId());
+                    int reviewCount = storeCountBuffer.getReviewCount(store);
+
+                    return new StoreResponse.StoreListDTO(store, likeCount, isLiked, reviewCount, nearbyStore.getDistance());
                 })
-                .sorted(Comparator.comparingInt(StoreResponse.StoreListDTO::getDistance))
                 .toList();
     }
 
@@ -60,9 +121,9 @@ public class StoreService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new App404("찾을 수 없는 매장입니다."));
 
-        int likeCount = likeService.getStoreLikeCount(storeId);
+        int likeCount = storeCountBuffer.getLikeCount(store);
         boolean isLiked = likeService.isUserLikedStore(userId, storeId);
-        int reviewCount = getReviewCount(storeId);
+        int reviewCount = storeCountBuffer.getReviewCount(store);
         int distance = DistanceUtil.calculateDistance(customerLatitude, customerLongitude, store.getLatitude(), store.getLongitude());
 
         return new StoreResponse.StoreInfoDTO(store, likeCount, isLiked, reviewCount, distance);
@@ -76,46 +137,72 @@ public class StoreService {
         return new StoreResponse.StoreBizInfoDTO(store);
     }
 
+    // 매장 메뉴 스냅샷 (캐시에 있으면 DB 조회 없음, ETag 비교용)
+    public StoreMenuCache.Snapshot getStoreMenuSnapshot(int storeId) {
+        return storeMenuCache.get(storeId, () -> {
+            Store store // 매장 정보
+                    = storeRepository.findById(storeId)
+                    .orElseThrow(() -> new App404("찾을 수 없는 매장입니다."));
+            List<Menu> menus // 매장 메뉴 정보
+                    = menuRepository.findAllByStoreId(storeId)
+                    .orElseThrow(() -> new App404("찾을 수 없는 메뉴입니다."));
+
+            return new StoreResponse.StoreMenuListDTO(store, menus);
+        });
+    }
+
     // 매장 메뉴보기
     public StoreResponse.StoreMenuListDTO getStoreMenuList(int storeId) {
-        Store store // 매장 정보
-                = storeRepository.findById(storeId)
-                .orElseThrow(() -> new App404("찾을 수 없는 매장입니다."));
-        List<Menu> menus // 매장 메뉴 정보
-                = menuRepository.findAllByStoreId(storeId)
-                .orElseThrow(() -> new App404("찾을 수 없는 메뉴입니다."));
-
-        return new StoreResponse.StoreMenuListDTO(store, menus);
+        return getStoreMenuSnapshot(storeId).getMenuList();
     }
 
     // 매장 메뉴 옵션보기
     public StoreResponse.StoreMenuOptionDTO getStoreMenuDetail(int storeId, int menuId) {
-        Store store // 매장 정보
-                = storeRepository.findById(storeId)
-                .orElseThrow(() -> new App404("찾을 수 없는 매장입니다."));
-        Menu menu // 매장 메뉴 정보
-                = menuRepository.findById(menuId)
-                .orElseThrow(() -> new App404("찾을 수 없는 메뉴입니다."));
-        List<MenuOption> optionList // 매장 메뉴 옵션 정보
-                = menuOptionRepository.findByMenuId(menuId)
-                .orElseThrow(() -> new App404("찾을 수 없는 옵션입니다."));
-
-        return new StoreResponse.StoreMenuOptionDTO(store, menu, optionList);
+        return getStoreMenuDetail(getStoreMenuSnapshot(storeId), menuId).getMenuOption();
+    }
+
+    public StoreMenuCache.MenuDetail getStoreMenuDetail(StoreMenuCache.Snapshot snapshot, int menuId) {
+        int storeId = snapshot.getMenuList().getStoreId();
+        return storeMenuCache.getMenuDetail(snapshot, menuId, () -> {
+            Store store // 매장 정보
+                    = storeRepository.findById(storeId)
+                    .orElseThrow(() -> new App404("찾을 수 없는 매장입니다."));
+            Menu menu // 매장 메뉴 정보
+                    = menuRepository.findById(menuId)
+                    .filter(m -> m.getStore().getId() == storeId) // 다른 매장의 메뉴는 조회하지 않음
+                    .orElseThrow(() -> new App404("찾을 수 없는 메뉴입니다."));
+            List<MenuOption> optionList // 매장 메뉴 옵션 정보
+                    = menuOptionRepository.findByMenuId(menuId)
+                    .orElseThrow(() -> new App404("찾을 수 없는 옵션입니다."));
+
+            return new StoreResponse.StoreMenuOptionDTO(store, menu, optionList);
+        });
     }
 
     /*------------------------------------------------------------------------------------- 매장 관리자 -----------------*/
-    // 매장 관리자 등록
-    @Transactional
+    // 매장 관리자 등록 (비밀번호 해시는 트랜잭션 밖에서, DB 커넥션을 잡지 않은 채로)
     public StoreResponse.JoinDTO createStore(StoreRequest.JoinDTO reqDTO) {
         Store store = new Store(reqDTO);
-        storeRepository.save(store);
+        store.setPassword(hashPassword(reqDTO.getPassword()));
+        storeRepository.save(store); // save 자체가 트랜잭션
+        TransactionUtil.afterCommit(() -> storeLocationIndex.put(store));
         return new StoreResponse.JoinDTO(store);
     }
 
-    // 매장 관리자 로그인
+    // 매장 관리자 로그인 (비밀번호 검증은 트랜잭션 밖에서, DB 커넥션을 잡지 않은 채로)
     public SessionStore getStore(StoreRequest.LoginDTO reqDTO) {
-        Store store = storeRepository.findByUsernameAndPassword(reqDTO.getUsername(), reqDTO.getPassword())
-                .orElseThrow(() -> new Web401("유저네임 또는 패스워드가 일치하지 않습니다."));
+        Store store = storeRepository.findByUsername(reqDTO.getUsername()).orElse(null);
+        try {
+            // 없는 아이디도 비밀번호 비교를 거친 뒤 같은 401 (응답 시간으로 아이디 존재 여부를 알 수 없도록)
+            if (!passwordHasher.matches(reqDTO.getPassword(), store == null ? null : store.getPassword())) {
+                throw new Web401("유저네임 또는 패스워드가 일치하지 않습니다.");
+            }
+            if (passwordHasher.needsRehash(store.getPassword())) { // 이전 평문 비밀번호는 첫 로그인 때 해시로 교체
+                storeRepository.updatePassword(store.getId(), store.getPassword(), passwordHasher.hash(reqDTO.getPassword()));
+            }
+        } catch (RejectedExecutionException e) {
+            throw new Web503(PASSWORD_BUSY_MESSAGE);
+        }
 
         return new SessionStore(store);
     }
@@ -128,13 +215,19 @@ public class StoreService {
         return new StoreResponse.StoreDTO(store);
     }
 
-    @Transactional // 매장 관리자 - 매장 정보 수정하기
+    // 매장 관리자 - 매장 정보 수정하기 (비밀번호 해시를 먼저 하고 트랜잭션 시작)
     public SessionStore updateStore(int sessionStoreId, StoreRequest.UpdateDTO reqDTO) {
-        Store store = storeRepository.findById(sessionStoreId)
-                .orElseThrow(() -> new Web403("수정할 권한이 없습니다."));
-        store.update(reqDTO);
-
-        return new SessionStore(store);
+        String hashedPassword = hashPassword(reqDTO.getPassword());
+        return transactionTemplate.execute(status -> {
+            Store store = storeRepository.findById(sessionStoreId)
+                    .orElseThrow(() -> new Web403("수정할 권한이 없습니다."));
+            store.update(reqDTO);
+            store.setPassword(hashedPassword);
+            TransactionUtil.afterCommit(() -> storeLocationIndex.put(store));
+            storeMenuCache.evict(sessionStoreId); // 메뉴 화면의 매장 이름
+
+            return new SessionStore(store);
+        });
     }
 
     @Transactional // 매장 관리자 - 매장 메뉴 등록하기
@@ -142,14 +235,14 @@ public class StoreService {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new Web404("찾을 수 없는 매장입니다."));
         Menu menu = new Menu(reqDTO, store);
+        storeMenuCache.evict(storeId);
 
         return new StoreResponse.CreateMenuDTO(menuRepository.save(menu));
     }
 
     // 매장 관리자 - 메뉴 목록보기
     public StoreResponse.MenuListDTO getMenuList(int storeId) {
-        List<Menu> menus = menuRepository.findAllByStoreId(storeId)
-                .orElseThrow(() -> new Web404("메뉴를 찾을 수 없습니다."));
+        List<Menu> menus = menuRepository.findAllWithMenuOptionsByStoreId(storeId); // 메뉴와 옵션을 쿼리 한 번으로
 
         return new StoreResponse.MenuListDTO(menus);
     }
@@ -169,46 +262,69 @@ public class StoreService {
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new Web404("찾을 수 없는 메뉴입니다."));
         menu.update(reqDTO);
-        menuOptionRepository.deleteByMenuId(menuId);
+        storeMenuCache.evict(menu.getStore().getId());
+        List<MenuOption> menuOptions = updateMenuOptions(menu, reqDTO.getMenuOptions());
+
+        return new StoreResponse.UpdateMenuDTO(menu, menuOptions);
+    }
 
-        List<MenuOption> menuOptions = new ArrayList<>();
-        for (StoreRequest.UpdateMenuDTO.MenuOptionDTO menuOptionDTO : reqDTO.getMenuOptions()) {
-            MenuOption menuOption = new MenuOption(menuOptionDTO, menu);
-            menuOptionRepository.save(menuOption);
+    // 기존 옵션과 비교해서 바뀐 옵션만 UPDATE, 새 옵션은 INSERT, 빠진 옵션은 DELETE (옵션 번호 유지)
+    private List<MenuOption> updateMenuOptions(Menu menu, List<StoreRequest.UpdateMenuDTO.MenuOptionDTO> reqOptions) {
+        List<MenuOption> remainingOptions = menuOptionRepository.findByMenuId(menu.getId())
+                .orElse(new ArrayList<>());
+        List<MenuOption> menuOptions = new ArrayList<>(); // 요청 순서대로
+        List<MenuOption> newOptions = new ArrayList<>();
+        for (StoreRequest.UpdateMenuDTO.MenuOptionDTO reqOption : reqOptions) {
+            // 옵션 번호로 찾고, 번호가 없으면 이름과 필수 여부가 같은 옵션으로 찾음
+            MenuOption menuOption = remainingOptions.stream()
+                    .filter(option -> reqOption.getId() != null
+                            ? option.getId() == reqOption.getId()
+                            : option.getName().equals(reqOption.getName()) && option.isRequired() == reqOption.isRequired())
+                    .findFirst()
+                    .orElse(null);
+            if (menuOption == null) {
+                menuOption = new MenuOption(reqOption, menu);
+                newOptions.add(menuOption);
+            } else {
+                remainingOptions.remove(menuOption);
+                menuOption.update(reqOption); // 변경 감지로 커밋 시 UPDATE
+            }
             menuOptions.add(menuOption);
         }
+        if (!remainingOptions.isEmpty()) {
+            menuOptionRepository.deleteAllInBatch(remainingOptions); // DELETE 한 번
+        }
+        menuOptionRepository.saveAll(newOptions); // INSERT 배치
 
-        return new StoreResponse.UpdateMenuDTO(menu, menuOptions);
+        return menuOptions;
     }
 
     @Transactional // 매장 관리자 - 메뉴 삭제하기
     public void deleteMenu(int menuId) {
+        menuRepository.findById(menuId)
+                .ifPresent(menu -> storeMenuCache.evict(menu.getStore().getId()));
         menuOptionRepository.deleteByMenuId(menuId);
         menuRepository.deleteById(menuId);
     }
 
-    // 매장 관리자 - 주문내역 목록보기
-    public StoreResponse.OrderListDTO getOrderList(int storeId) {
-        List<Order> orderList = orderRepository.findAllByStoreId(storeId)
-                .orElseThrow(() -> new Web404("주문 내역이 없습니다."));
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.PENDING)).toList().forEach(orderList::remove);
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.PREPARING)).toList().forEach(orderList::remove);
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.PREPARED)).toList().forEach(orderList::remove);
-
-        // 이넘 -> 한글
-        orderList.forEach(order -> {
-            OrderStatus status = order.getStatus();
-        });
+    @Transactional(readOnly = true) // 매장 관리자 - 주문내역 목록보기 (처리중인 주문 제외, 최근 주문부터)
+    public StoreResponse.OrderListDTO getOrderList(int storeId, Integer cursorId, int size) {
+        if (size < 1) {
+            throw new Web400("조회 개수는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, MAX_HISTORY_SIZE);
+        // 다음 페이지 여부 확인을 위해 하나 더 조회
+        List<StoreResponse.OrderListDTO.OrderDTO> orderList = orderRepository.findHistoryByStoreId(
+                storeId, ACTIVE_ORDER_STATUSES, toCursorId(cursorId), PageRequest.of(0, pageSize + 1));
 
-        return new StoreResponse.OrderListDTO(orderList);
+        return toOrderListPage(orderList, pageSize);
     }
 
     @Transactional(readOnly = true)// 매장 관리자 - 주문내역 상세보기
     public StoreResponse.OrderDetailDTO getOrderDetail(int orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdWithCustomerAndStore(orderId)
                 .orElseThrow(() -> new Web404("찾을 수 없는 주문입니다."));
-        List<OrderMenu> orderMenuList = orderMenuRepository.findAllByOrderId(orderId)
-                .orElseThrow(() -> new Web404("찾을 수 없는 메뉴입니다."));
+        List<OrderMenu> orderMenuList = orderMenuRepository.findAllWithOrderMenuOptionsByOrderId(orderId);
 
         return new StoreResponse.OrderDetailDTO(order, orderMenuList);
     }
@@ -217,6 +333,7 @@ public class StoreService {
     public StoreResponse.UpdateOrderDTO updateOrder(int orderId, StoreRequest.UpdateOrderDTO reqDTO) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new Web404("찾을 수 없는 주문입니다."));
+        OrderStatus beforeStatus = order.getStatus();
         if (reqDTO.getStatus().equals(OrderStatus.PENDING)) {
             order.setStatus(OrderStatus.PREPARING);
         }
@@ -226,22 +343,29 @@ public class StoreService {
         if (reqDTO.getStatus().equals(OrderStatus.PREPARED)) {
             order.setStatus(OrderStatus.SERVED);
         }
+        storeOrderCounter.move(order.getStore().getId(), beforeStatus, order.getStatus());
+        if (beforeStatus != OrderStatus.SERVED && order.getStatus() == OrderStatus.SERVED) {
+            salesService.addServedOrder(order); // 매출 집계 반영
+        }
+        // 주문한 손님에게 상태 변경 알림 (커밋된 뒤에)
+        int customerId = order.getCustomer().getId();
+        UserResponse.OrderStatusDTO orderStatus = new UserResponse.OrderStatusDTO(order);
+        TransactionUtil.afterCommit(() -> storeSseService.createOrderStatusNotification(customerId, orderStatus));
 
         return new StoreResponse.UpdateOrderDTO(order);
     }
 
+    @Transactional(readOnly = true) // 매장 관리자 - 처리중인 주문 (주문 현황판)
     public HashMap<String, Object> getOrders(int storeId) {
-        // 전체 오더 리스트
-        List<Order> orders = orderRepository.findAllByStoreIdWithOrderMenu(storeId)
-                .orElseThrow(() -> new Web404("찾을 수 없는 주문입니다."));
-        // 응답할 오더 리스트
-        List<StoreResponse.OrdersDTO> orderList = new ArrayList<>();
-        orders.forEach(order ->
-                orderList.add(StoreResponse.OrdersDTO.builder()
-                        .order(order)
-                        .menuList(order.getOrderMenus())
-                        .build())
-        );
+        // 처리중인 주문만 조회 (store_id, status, created_at 인덱스)
+        List<StoreResponse.OrdersDTO> orderList = orderRepository.findAllByStoreIdAndStatusIn(storeId, ACTIVE_ORDER_STATUSES);
+        // 주문별 메뉴 (이름, 수량) 한 번에 조회
+        if (!orderList.isEmpty()) {
+            Map<Integer, StoreResponse.OrdersDTO> orderMap = orderList.stream()
+                    .collect(Collectors.toMap(StoreResponse.OrdersDTO::getOrderId, Function.identity()));
+            orderMenuRepository.findAllByOrderIdIn(new ArrayList<>(orderMap.keySet()))
+                    .forEach(orderMenu -> orderMap.get(orderMenu.getOrderId()).getMenuList().add(orderMenu));
+        }
 
         List<StoreResponse.OrdersDTO> pendingOrderList = new ArrayList<>();
         List<StoreResponse.OrdersDTO> preparingOrderList = new ArrayList<>();
@@ -271,32 +395,82 @@ public class StoreService {
         return orderListSortedByStatus;
     }
 
-    public StoreResponse.OrderListDTO getOrderListByDate(int storeId, LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-        List<Order> orderList = orderRepository.findAllByStoreIdAndCreatedAtBetween(storeId, startDateTime, endDateTime);
+    @Transactional(readOnly = true) // 매장 관리자 - 주문내역 날짜로 조회 (startDate ~ endDate 하루 전체)
+    public StoreResponse.OrderListDTO getOrderListByDate(int storeId, LocalDate startDate, LocalDate endDate, Integer cursorId, int size) {
+        if (startDate.isAfter(endDate)) {
+            throw new App400("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (size < 1) {
+            throw new App400("조회 개수는 1 이상이어야 합니다.");
+        }
+        int pageSize = Math.min(size, MAX_HISTORY_SIZE);
+        List<StoreResponse.OrderListDTO.OrderDTO> orderList = orderRepository.findHistoryByStoreIdAndCreatedAtBetween(
+                storeId, DATE_HISTORY_EXCLUDED_STATUSES, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(),
+                toCursorId(cursorId), PageRequest.of(0, pageSize + 1));
 
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.PENDING)).toList().forEach(orderList::remove);
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.PREPARING)).toList().forEach(orderList::remove);
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.PREPARED)).toList().forEach(orderList::remove);
-        orderList.stream().filter(order -> order.getStatus().equals(OrderStatus.CONFIRMED)).toList().forEach(orderList::remove);
+        return toOrderListPage(orderList, pageSize);
+    }
 
-        // 이넘 -> 한글
-        orderList.forEach(order -> {
-            OrderStatus status = order.getStatus();
-        });
-        return new StoreResponse.OrderListDTO(orderList);
+    // 매장 관리자 - 주문내역 내보내기 기간 확인 (CSV 응답 헤더를 쓰기 전에 호출)
+    public void checkExportPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new Web400("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_EXPORT_DAYS) {
+            throw new Web400("주문내역은 최대 " + MAX_EXPORT_DAYS + "일까지 내보낼 수 있습니다.");
+        }
     }
 
-    public int getPendingOrderCount(int storeId) {
-        List<Order> orders = orderRepository.findAllByStoreId(storeId)
-                .orElseThrow(() -> new Web404("찾을 수 없는 주문입니다."));
-        int pendingOrderCount = 0;
-        for (int i = 0; i < orders.size(); i++) {
-            if (orders.get(i).getStatus() == OrderStatus.PENDING) {
-                pendingOrderCount++;
+    @Transactional(readOnly = true) // 매장 관리자 - 주문내역 내보내기 (CSV, startDate ~ endDate 포함)
+    public void exportOrders(int storeId, LocalDate startDate, LocalDate endDate, Writer writer) throws IOException {
+        checkExportPeriod(startDate, endDate);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        writer.write(CsvUtil.BOM);
+        CsvUtil.writeRow(writer, "주문번호", "주문일시", "주문상태", "닉네임", "결제금액", "메뉴", "수량", "메뉴금액");
+        // 주문 메뉴 한 줄씩 읽어서 바로 씀 (메모리에 목록을 만들지 않음)
+        try (Stream<StoreResponse.OrderExportDTO> rows = orderRepository.streamExportByStoreIdAndCreatedAtBetween(
+                storeId, ACTIVE_ORDER_STATUSES, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())) {
+            Iterator<StoreResponse.OrderExportDTO> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                StoreResponse.OrderExportDTO row = iterator.next();
+                CsvUtil.writeRow(writer, row.getOrderId(), row.getCreatedAt().toLocalDateTime().format(formatter),
+                        row.getStatus().getValue(), row.getCustomerNickname(), row.getTotalPrice(),
+                        row.getMenuName(), row.getMenuQty(), row.getMenuTotalPrice());
             }
         }
-        return pendingOrderCount;
+        writer.flush();
+    }
+
+    // 비밀번호 해시 작업이 밀려 있으면 503 (대기열이 찼거나 제한 시간 안에 끝나지 않음)
+    private String hashPassword(String rawPassword) {
+        try {
+            return passwordHasher.hash(rawPassword);
+        } catch (RejectedExecutionException e) {
+            throw new Web503(PASSWORD_BUSY_MESSAGE);
+        }
+    }
+
+    private int toCursorId(Integer cursorId) {
+        return cursorId == null ? Integer.MAX_VALUE : cursorId; // 첫 페이지
+    }
+
+    private StoreResponse.OrderListDTO toOrderListPage(List<StoreResponse.OrderListDTO.OrderDTO> orderList, int pageSize) {
+        boolean hasNext = orderList.size() > pageSize;
+        if (hasNext) {
+            orderList = orderList.subList(0, pageSize);
+        }
+        // 페이지에 담긴 주문의 메뉴만 한 번에 조회
+        if (!orderList.isEmpty()) {
+            List<Integer> orderIds = orderList.stream().map(StoreResponse.OrderListDTO.OrderDTO::getOrderId).toList();
+            Map<Integer, List<StoreResponse.OrdersDTO.OrderMenuDTO>> orderMenuMap = orderMenuRepository.findAllByOrderIdIn(orderIds).stream()
+                    .collect(Collectors.groupingBy(StoreResponse.OrdersDTO.OrderMenuDTO::getOrderId));
+            orderList.forEach(orderDTO -> orderDTO.setOrderMenus(orderMenuMap.getOrDefault(orderDTO.getOrderId(), List.of())));
+        }
+
+        return new StoreResponse.OrderListDTO(orderList, hasNext);
+    }
+
+    public int getPendingOrderCount(int storeId) {
+        return storeOrderCounter.getCount(storeId, OrderStatus.PENDING);
     }
 }
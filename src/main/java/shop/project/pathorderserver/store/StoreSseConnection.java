@@ -0,0 +1,137 @@
+package shop.project.pathorderserver.store;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+// SSE 연결 하나 (기기 하나)
+// 이벤트는 대기열에 넣고 바로 반환, 전송은 executor 에서 연결마다 한 작업만 순서대로 처리 (느린 연결이 요청 스레드를 붙잡지 않음)
+public class StoreSseConnection {
+    @Getter
+    private final String id;
+    @Getter
+    private final SseEmitter emitter;
+    private final int queueSize;
+    private final SseOverflowPolicy overflowPolicy;
+    private final Executor executor;
+    private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+    private boolean writing = false; // 전송 작업이 executor 에 올라가 있는지 (this 로 동기화)
+    // 재접속 복구 - 복구 이벤트를 보내기 전에 들어온 이벤트는 잠시 보관, 복구로 보낸 번호는 다시 보내지 않음
+    private boolean replaying = false;
+    private final Map<Long, SseEmitter.SseEventBuilder> held = new LinkedHashMap<>();
+    private Set<Long> replayedEventIds = Set.of();
+    private volatile boolean closed = false;
+
+    public StoreSseConnection(String id, SseEmitter emitter, int queueSize, SseOverflowPolicy overflowPolicy, Executor executor) {
+        this.id = id;
+        this.emitter = emitter;
+        this.queueSize = queueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+    }
+
+    public void send(SseEmitter.SseEventBuilder event) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (queue.size() >= queueSize) {
+                if (overflowPolicy == SseOverflowPolicy.DISCONNECT) { // 전송 중인 작업이 대기열을 비우고 연결을 닫음
+                    closed = true;
+                    queue.clear();
+                    return;
+                }
+                queue.removeFirst();
+            }
+            queue.addLast(event);
+            if (writing) { // 이미 전송 중이면 그 작업이 이어서 보냄
+                return;
+            }
+            writing = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    // 이벤트 버스에서 받은 이벤트 (복구 중이면 보관, 이미 복구로 보낸 번호면 버림)
+    public void send(long eventId, SseEmitter.SseEventBuilder event) {
+        synchronized (this) {
+            if (replayedEventIds.contains(eventId)) {
+                return;
+            }
+            if (replaying) {
+                held.put(eventId, event);
+                return;
+            }
+        }
+        send(event);
+    }
+
+    // 저장소에 등록하기 전에 호출 (등록 후 복구 전까지 들어온 이벤트를 보관)
+    public synchronized void startReplay() {
+        replaying = true;
+    }
+
+    // 놓친 이벤트(번호 순)를 먼저 보내고, 복구 중에 들어온 이벤트 중 겹치지 않는 것을 이어서 보냄
+    public synchronized void finishReplay(Map<Long, SseEmitter.SseEventBuilder> missedEvents) {
+        replayedEventIds = Set.copyOf(missedEvents.keySet());
+        missedEvents.values().forEach(this::send);
+        held.forEach((eventId, event) -> {
+            if (!replayedEventIds.contains(eventId)) {
+                send(event);
+            }
+        });
+        held.clear();
+        replaying = false;
+    }
+
+    // 대기열이 비어 있을 때만 보냄 (전송할 이벤트가 있으면 연결이 살아 있다는 표시로 충분)
+    public void sendIfIdle(SseEmitter.SseEventBuilder event) {
+        synchronized (this) {
+            if (!queue.isEmpty() || writing) {
+                return;
+            }
+        }
+        send(event);
+    }
+
+    public synchronized int getPendingCount() {
+        return queue.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void drain() {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (this) {
+                event = queue.pollFirst();
+                if (event == null || closed) {
+                    writing = false;
+                    break;
+                }
+            }
+            try {
+                emitter.send(event);
+            } catch (Exception e) {
+                synchronized (this) {
+                    closed = true;
+                    queue.clear();
+                    writing = false;
+                }
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+        if (closed) { // DISCONNECT 정책으로 닫힌 경우
+            emitter.complete();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -14,12 +15,12 @@ public class StoreSseController {
     private final StoreSseService storeSSEService;
 
     @GetMapping(value = "/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connect() {
+    public SseEmitter connect(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
         if (sessionStore == null) {
             return null;
         } else {
-            return storeSSEService.createConnection(sessionStore.getId());
+            return storeSSEService.createConnection(sessionStore.getId(), lastEventId);
         }
     }
 }
@@ -0,0 +1,29 @@
+package shop.project.pathorderserver.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 매장(손님)으로 보낸 SSE 이벤트 (재접속 시 Last-Event-ID 이후 이벤트를 다시 보내기 위해 보관)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreSseEvent {
+    private long id; // 이벤트 번호 (StoreEventBus 가 채번, Last-Event-ID 로 사용)
+    private Channel channel;
+    private int targetId; // 매장 번호(STORE) 또는 손님 번호(CUSTOMER)
+    private String name;
+    private String data; // 문자열 또는 JSON
+
+    public StoreSseEvent(Channel channel, int targetId, String name, String data) {
+        this.channel = channel;
+        this.targetId = targetId;
+        this.name = name;
+        this.data = data;
+    }
+
+    public enum Channel {
+        STORE, // 매장 주문 알림
+        CUSTOMER // 손님 주문 상태 알림
+    }
+}
@@ -2,26 +2,70 @@ package shop.project.pathorderserver.store;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+// 매장별 SSE 연결 저장소 (한 매장에 여러 기기가 동시에 연결 가능) + 매장별 최근 이벤트 버퍼
 @RequiredArgsConstructor
 @Repository
-public class StoreSseRepository {
-    private final Map<Integer, SseEmitter> emitters = new ConcurrentHashMap<>();
+public class StoreSseRepository implements SseConnectionRepository {
+    private static final int RECENT_EVENT_SIZE = 100; // 매장별로 보관할 최근 이벤트 수
 
-    public void save(int storeId, SseEmitter emitter) {
-        emitters.put(storeId, emitter);
+    private final Map<Integer, Map<String, StoreSseConnection>> connections = new ConcurrentHashMap<>();
+    private final Map<Integer, Deque<StoreSseEvent>> recentEvents = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(int storeId, StoreSseConnection connection) {
+        connections.compute(storeId, (key, storeConnections) -> { // 삭제(deleteById)와 겹쳐도 연결이 유실되지 않도록 원자적으로 추가
+            Map<String, StoreSseConnection> newConnections = storeConnections == null ? new ConcurrentHashMap<>() : storeConnections;
+            newConnections.put(connection.getId(), connection);
+            return newConnections;
+        });
+    }
+
+    public Collection<StoreSseConnection> findAllByStoreId(int storeId) {
+        return connections.getOrDefault(storeId, Map.of()).values();
+    }
+
+    public Map<Integer, Map<String, StoreSseConnection>> findAll() {
+        return connections;
+    }
+
+    @Override
+    public void deleteById(int storeId, String connectionId) {
+        connections.computeIfPresent(storeId, (key, storeConnections) -> {
+            storeConnections.remove(connectionId);
+            return storeConnections.isEmpty() ? null : storeConnections;
+        });
     }
 
-    public Optional<SseEmitter> findById(int storeId) {
-        return Optional.ofNullable(emitters.get(storeId));
+    // 최근 이벤트 저장 (RECENT_EVENT_SIZE 를 넘으면 가장 오래된 이벤트부터 버림)
+    public void saveEvent(int storeId, StoreSseEvent event) {
+        Deque<StoreSseEvent> events = recentEvents.computeIfAbsent(storeId, key -> new ArrayDeque<>());
+        synchronized (events) {
+            events.addLast(event);
+            if (events.size() > RECENT_EVENT_SIZE) {
+                events.removeFirst();
+            }
+        }
     }
 
-    public void deleteById(int storeId) {
-        emitters.remove(storeId);
+    // lastEventId 이후에 보낸 이벤트 (재접속한 기기가 놓친 이벤트)
+    @Override
+    public List<StoreSseEvent> findEventsAfter(int storeId, long lastEventId) {
+        Deque<StoreSseEvent> events = recentEvents.get(storeId);
+        if (events == null) {
+            return List.of();
+        }
+        synchronized (events) {
+            return events.stream()
+                    .filter(event -> event.getId() > lastEventId)
+                    .toList();
+        }
     }
 }
@@ -1,49 +1,156 @@
 package shop.project.pathorderserver.store;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import shop.project.pathorderserver._core.errors.exception.App500;
+import shop.project.pathorderserver.user.UserResponse;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @RequiredArgsConstructor
 @Service
 public class StoreSseService {
     private final StoreSseRepository storeSSERepository;
-    private static final long TIMEOUT = 60 * 1000;
+    private final CustomerSseRepository customerSseRepository; // 손님(userId)별 주문 상태 알림 연결
+    private final StoreEventBus storeEventBus;
+    private final ObjectMapper objectMapper;
+    private static final long TIMEOUT = 30 * 60 * 1000; // 연결 유지 시간, 끊기면 브라우저가 Last-Event-ID 와 함께 재접속
     private static final long RECONNECTION_TIMEOUT = 1000L;
+    private static final long HEARTBEAT_INTERVAL = 15 * 1000; // 프록시/공유기가 유휴 연결을 끊지 않도록 주기적으로 전송
+    private static final String EVENT_NAME = "sse";
+    private static final String ORDER_STATUS_EVENT_NAME = "order-status";
+    private static final String PENDING_ORDER_COUNT_EVENT_NAME = "pending-order-count";
     // OnCompletion: Emitter 가 완료될 때(모든 데이터가 성공적으로 전송된 상태)
     // OnTimeout: Emitter 가 타임아웃 되었을 때(지정된 시간동안 어떠한 이벤트도 전송되지 않았을 때)
 
-    public SseEmitter createConnection(int storeId) {
-        SseEmitter emitter = new SseEmitter(TIMEOUT);
-        storeSSERepository.save(storeId, emitter);
-        // createEvent(storeId, "실시간 Push 서비스 연결 완료"); // EventStream 생성
-        return emitter;
+    private final ExecutorService sseExecutor = Executors.newVirtualThreadPerTaskExecutor(); // 이벤트 전송 전용 (요청 스레드와 분리)
+
+    @Value("${sse.queue-size:100}")
+    private int queueSize; // 연결별 전송 대기열 크기
+    @Value("${sse.overflow-policy:DROP_OLDEST}")
+    private SseOverflowPolicy overflowPolicy; // 대기열이 가득 찼을 때 처리 방식
+
+    public SseEmitter createConnection(int storeId, String lastEventId) {
+        return connect(storeSSERepository, storeId, lastEventId);
+    }
+
+    // 손님 주문 상태 알림 연결 (주문 상세 화면에서 폴링 대신 사용)
+    public SseEmitter createCustomerConnection(int userId, String lastEventId) {
+        return connect(customerSseRepository, userId, lastEventId);
     }
 
     public void createOrderNotification(int orderId, int storeId) {
-        if (storeSSERepository.findById(storeId).isPresent()) {
-            createEvent(storeId, orderId + "번 주문 알림. 새로고침을 눌러 주문을 확인해주세요.");
+        // 연결된 기기가 없어도 이벤트는 보관 (재접속 시 전송)
+        createEvent(storeId, orderId + "번 주문 알림. 새로고침을 눌러 주문을 확인해주세요.");
+    }
+
+    // 접수 대기 주문 수가 바뀔 때마다 매장 화면으로 전송 (대시보드 폴링 대신)
+    public void createPendingOrderCountNotification(int storeId, int pendingOrderCount) {
+        storeEventBus.publish(new StoreSseEvent(StoreSseEvent.Channel.STORE, storeId, PENDING_ORDER_COUNT_EVENT_NAME, String.valueOf(pendingOrderCount)));
+    }
+
+    // 주문 상태가 바뀔 때마다 주문한 손님에게 전송
+    public void createOrderStatusNotification(int userId, UserResponse.OrderStatusDTO orderStatus) {
+        try {
+            String data = objectMapper.writeValueAsString(orderStatus);
+            storeEventBus.publish(new StoreSseEvent(StoreSseEvent.Channel.CUSTOMER, userId, ORDER_STATUS_EVENT_NAME, data));
+        } catch (JsonProcessingException e) {
+            throw new App500(e.getMessage());
         }
     }
 
+    // 이벤트 버스로 발행 (다른 서버에 연결된 기기에도 전달됨)
     public void createEvent(int storeId, String data) {
-        Optional<SseEmitter> opEmitter = storeSSERepository.findById(storeId);
-        if (opEmitter.isPresent()) {
-            SseEmitter emitter = opEmitter.get();
-            SseEmitter.SseEventBuilder event = SseEmitter.event()
-                    .name("sse")
-                    .data(data)
-                    .reconnectTime(RECONNECTION_TIMEOUT);
-            try {
-                emitter.send(event);
-                emitter.onTimeout(() -> storeSSERepository.deleteById(storeId));
-                emitter.onCompletion(() -> storeSSERepository.deleteById(storeId));
-            } catch (Exception e) {
-                storeSSERepository.deleteById(storeId);
-                emitter.completeWithError(e);
+        storeEventBus.publish(new StoreSseEvent(StoreSseEvent.Channel.STORE, storeId, EVENT_NAME, data));
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        storeEventBus.subscribe(this::deliver);
+    }
+
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL)
+    public void sendHeartbeat() {
+        for (Map<Integer, Map<String, StoreSseConnection>> connectionMap : List.of(storeSSERepository.findAll(), customerSseRepository.findAll())) {
+            connectionMap.values().forEach(connections ->
+                    connections.values().forEach(connection ->
+                            connection.sendIfIdle(SseEmitter.event().comment("heartbeat"))));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sseExecutor.shutdownNow();
+    }
+
+    private SseEmitter connect(SseConnectionRepository repository, int key, String lastEventId) {
+        String connectionId = key + "_" + UUID.randomUUID();
+        SseEmitter emitter = new SseEmitter(TIMEOUT);
+        StoreSseConnection connection = new StoreSseConnection(connectionId, emitter, queueSize, overflowPolicy, sseExecutor);
+        emitter.onCompletion(() -> repository.deleteById(key, connectionId));
+        emitter.onTimeout(() -> repository.deleteById(key, connectionId));
+        emitter.onError(e -> repository.deleteById(key, connectionId));
+        long lastId = parseEventId(lastEventId);
+        if (lastId > 0) { // 등록과 복구 이벤트 조회 사이에 들어온 이벤트가 두 번, 순서가 바뀌어 가지 않도록
+            connection.startReplay();
+        }
+        repository.save(key, connection);
+
+        // 연결 직후 한 번 전송해야 응답이 시작됨 (이벤트 이름이 없는 주석이라 화면에는 표시되지 않음)
+        connection.send(SseEmitter.event().comment("connected").reconnectTime(RECONNECTION_TIMEOUT));
+        // 재접속이면 끊겨 있는 동안 놓친 이벤트를 다시 전송
+        if (lastId > 0) {
+            Map<Long, SseEmitter.SseEventBuilder> missedEvents = new LinkedHashMap<>();
+            for (StoreSseEvent event : repository.findEventsAfter(key, lastId)) {
+                missedEvents.put(event.getId(), toSseEvent(event));
             }
+            connection.finishReplay(missedEvents);
+        }
+        return emitter;
+    }
+
+    // 이벤트 버스에서 받은 이벤트를 이 서버에 연결된 기기로 전송, 연결별 대기열에 넣고 바로 반환 (실제 전송은 sseExecutor 에서)
+    private void deliver(StoreSseEvent event) {
+        Collection<StoreSseConnection> connections;
+        if (event.getChannel() == StoreSseEvent.Channel.STORE) {
+            storeSSERepository.saveEvent(event.getTargetId(), event);
+            connections = storeSSERepository.findAllByStoreId(event.getTargetId());
+        } else {
+            customerSseRepository.saveEvent(event.getTargetId(), event);
+            connections = customerSseRepository.findAllByUserId(event.getTargetId());
+        }
+        connections.forEach(connection -> connection.send(event.getId(), toSseEvent(event)));
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(StoreSseEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getName())
+                .data(event.getData())
+                .reconnectTime(RECONNECTION_TIMEOUT);
+    }
+
+    private long parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(eventId.trim());
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
 }
@@ -1,21 +1,27 @@
 package shop.project.pathorderserver.user;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import shop.project.pathorderserver._core.errors.AppRequest;
 import shop.project.pathorderserver._core.utils.ApiUtil;
 import shop.project.pathorderserver.store.StoreSseService;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @RestController
 public class UserController {
     private final HttpSession session;
+    private final HttpServletRequest request; // JWT 인증 결과(sessionUser)는 요청 속성으로 전달됨
     private final UserService userService;
     private final StoreSseService storeSseService;
 
@@ -28,7 +34,7 @@ public class UserController {
     }
 
     @AppRequest
-    @PostMapping("/login") // 로그인 TODO: 비밀번호 암호화 하기
+    @PostMapping("/login") // 로그인
     public ResponseEntity<?> login(@RequestBody @Valid UserRequest.LoginDTO reqDTO, Errors errors) {
         UserResponse.LoginDTO respDTO = userService.getUser(reqDTO);
 
@@ -52,9 +58,8 @@ public class UserController {
     @AppRequest
     @PutMapping("/api/users/{userId}") // 회원정보 수정
     public ResponseEntity<?> update(@PathVariable String userId, @RequestBody @Valid UserRequest.UpdateDTO reqDTO, Errors errors) {
-        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
         SessionUser newSessionUser = userService.setUser(reqDTO, sessionUser.getId());
-        session.setAttribute("sessionUser", newSessionUser);
 
         return ResponseEntity.ok(new ApiUtil<>(newSessionUser));
     }
@@ -68,8 +73,21 @@ public class UserController {
 
     @AppRequest
     @PostMapping("/api/users/{userId}/orders") // 주문하기
-    public ResponseEntity<?> order(@PathVariable String userId, @RequestBody @Valid UserRequest.OrderDTO reqDTO, Errors errors) {
-        UserResponse.OrderDTO respDTO = userService.createOrder(reqDTO);
+    public ResponseEntity<?> order(@PathVariable String userId, @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                   @RequestBody @Valid UserRequest.OrderDTO reqDTO, Errors errors) {
+        // 같은 멱등키로 이미 접수된 주문이면 원래 응답을 그대로 돌려줌 (주문 알림도 다시 보내지 않음)
+        Optional<UserResponse.OrderDTO> replayDTO = userService.getIdempotentOrder(reqDTO.getCustomerId(), idempotencyKey);
+        if (replayDTO.isPresent()) {
+            return ResponseEntity.ok(new ApiUtil<>(replayDTO.get()));
+        }
+        UserResponse.OrderDTO respDTO;
+        try {
+            respDTO = userService.createOrder(reqDTO, idempotencyKey);
+        } catch (DataIntegrityViolationException e) { // 같은 키의 재시도가 동시에 들어와 유니크 제약에 걸린 경우
+            UserResponse.OrderDTO firstDTO = userService.getIdempotentOrder(reqDTO.getCustomerId(), idempotencyKey)
+                    .orElseThrow(() -> e);
+            return ResponseEntity.ok(new ApiUtil<>(firstDTO));
+        }
         storeSseService.createOrderNotification(respDTO.getId(), respDTO.getStoreId());
 
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
@@ -82,6 +100,13 @@ public class UserController {
         return ResponseEntity.ok(new ApiUtil<>(respDTO));
     }
 
+    // 주문 상태 알림 구독 (주문 상태가 바뀔 때마다 order-status 이벤트 전송)
+    @GetMapping(value = "/api/users/{userId}/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter orderStatusStream(@PathVariable int userId, @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SessionUser sessionUser = (SessionUser) request.getAttribute("sessionUser");
+        return storeSseService.createCustomerConnection(sessionUser.getId(), lastEventId); // 다른 사람의 주문은 구독 불가
+    }
+
     @GetMapping("/api/users/{userId}/orders/{orderId}") // 회원 주문내역 상세보기
     public ResponseEntity<?> orderDetail(@PathVariable String userId, @PathVariable int orderId) {
         UserResponse.OrderDetailDTO respDTO = userService.getOrderDetail(orderId);
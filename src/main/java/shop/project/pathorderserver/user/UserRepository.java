@@ -1,13 +1,19 @@
 package shop.project.pathorderserver.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
-    // TODO: 암호화
-    Optional<User> findByUsernameAndPassword(@Param("username") String username, @Param("password") String password);
-
     Optional<User> findByUsername(@Param("username") String username);
+
+    // 로그인 성공 시 평문(또는 이전 cost) 비밀번호를 새 해시로 교체, 그 사이 비밀번호가 바뀌었으면 반영하지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") int userId, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
 }
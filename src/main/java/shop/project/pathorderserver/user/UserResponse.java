@@ -265,6 +265,23 @@ public class UserResponse {
         }
     }
 
+    @Data // 주문 상태 알림 (SSE)
+    public static class OrderStatusDTO {
+        private int orderId;
+        private int storeId;
+        private String storeName;
+        private OrderStatus status;
+        private String statusName; // 접수대기, 조리중, 조리완료 ...
+
+        public OrderStatusDTO(Order order) {
+            this.orderId = order.getId();
+            this.storeId = order.getStore().getId();
+            this.storeName = order.getStoreName();
+            this.status = order.getStatus();
+            this.statusName = order.getStatus().getValue();
+        }
+    }
+
     @Data // 주문하기
     public static class OrderDTO {
         // 손님 정보
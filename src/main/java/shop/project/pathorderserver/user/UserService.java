@@ -3,17 +3,21 @@ package shop.project.pathorderserver.user;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import shop.project.pathorderserver._core.PasswordHasher;
 import shop.project.pathorderserver._core.errors.exception.App400;
 import shop.project.pathorderserver._core.errors.exception.App401;
 import shop.project.pathorderserver._core.errors.exception.App404;
+import shop.project.pathorderserver._core.errors.exception.App503;
 import shop.project.pathorderserver._core.utils.JwtUtil;
 import shop.project.pathorderserver.order.*;
 import shop.project.pathorderserver.store.Store;
+import shop.project.pathorderserver.store.StoreOrderCounter;
 import shop.project.pathorderserver.store.StoreRepository;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RequiredArgsConstructor
 @Service
@@ -23,20 +27,29 @@ public class UserService {
     private final OrderMenuRepository orderMenuRepository;
     private final OrderMenuOptionRepository orderMenuOptionRepository;
     private final StoreRepository storeRepository;
+    private final OrderIdempotencyCache orderIdempotencyCache;
+    private final StoreOrderCounter storeOrderCounter;
+    private final PasswordHasher passwordHasher;
+    private static final String PASSWORD_BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
 
-    @Transactional // 회원 가입
+    // 회원 가입 (비밀번호 해시는 트랜잭션 밖에서, DB 커넥션을 잡지 않은 채로)
     public UserResponse.JoinDTO createUser(UserRequest.JoinDTO reqDTO) {
         Optional<User> userOp = userRepository.findByUsername(reqDTO.getUsername());
         if (userOp.isPresent()) {
             throw new App400("중복된 유저입니다.");
         }
         User user = new User(reqDTO);
-        userRepository.save(user);
+        try {
+            user.setPassword(passwordHasher.hash(reqDTO.getPassword()));
+        } catch (RejectedExecutionException e) {
+            throw new App503(PASSWORD_BUSY_MESSAGE);
+        }
+        userRepository.save(user); // save 자체가 트랜잭션
 
         return UserResponse.JoinDTO
                 .builder()
                 .username(user.getUsername())
-                .password(user.getPassword())
+                .password(reqDTO.getPassword()) // 저장된 해시는 응답하지 않음
                 .nickname(user.getNickname())
                 .name(user.getName())
                 .tel(user.getTel())
@@ -44,10 +57,20 @@ public class UserService {
                 .build();
     }
 
-    // 로그인 TODO: 암호화
+    // 로그인 (비밀번호 검증은 트랜잭션 밖에서, DB 커넥션을 잡지 않은 채로)
     public UserResponse.LoginDTO getUser(UserRequest.LoginDTO reqDTO) {
-        User user = userRepository.findByUsernameAndPassword(reqDTO.getUsername(), reqDTO.getPassword())
-                .orElseThrow(() -> new App401("아이디 또는 비밀번호가 틀렸습니다."));
+        User user = userRepository.findByUsername(reqDTO.getUsername()).orElse(null);
+        try {
+            // 없는 아이디도 비밀번호 비교를 거친 뒤 같은 401 (응답 시간으로 아이디 존재 여부를 알 수 없도록)
+            if (!passwordHasher.matches(reqDTO.getPassword(), user == null ? null : user.getPassword())) {
+                throw new App401("아이디 또는 비밀번호가 틀렸습니다.");
+            }
+            if (passwordHasher.needsRehash(user.getPassword())) { // 이전 평문 비밀번호는 첫 로그인 때 해시로 교체
+                userRepository.updatePassword(user.getId(), user.getPassword(), passwordHasher.hash(reqDTO.getPassword()));
+            }
+        } catch (RejectedExecutionException e) {
+            throw new App503(PASSWORD_BUSY_MESSAGE);
+        }
         String jwt = JwtUtil.create(user);
 
         return new UserResponse.LoginDTO(user, jwt);
@@ -86,8 +109,28 @@ public class UserService {
         return new UserResponse.ImgDTO(user.getImgFilename());
     }
 
+    @Transactional(readOnly = true) // 멱등키로 이미 접수된 주문 조회 (캐시 → DB)
+    public Optional<UserResponse.OrderDTO> getIdempotentOrder(int customerId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > Order.IDEMPOTENCY_KEY_LENGTH) {
+            throw new App400("Idempotency-Key 는 1~" + Order.IDEMPOTENCY_KEY_LENGTH + "자여야 합니다.");
+        }
+        Optional<UserResponse.OrderDTO> cached = orderIdempotencyCache.get(customerId, idempotencyKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return orderRepository.findByCustomerIdAndIdempotencyKey(customerId, idempotencyKey)
+                .map(order -> {
+                    UserResponse.OrderDTO respDTO = new UserResponse.OrderDTO(order);
+                    orderIdempotencyCache.put(customerId, idempotencyKey, respDTO);
+                    return respDTO;
+                });
+    }
+
     @Transactional // 주문하기
-    public UserResponse.OrderDTO createOrder(UserRequest.OrderDTO reqDTO) {
+    public UserResponse.OrderDTO createOrder(UserRequest.OrderDTO reqDTO, String idempotencyKey) {
         User customer // 유저 번호로 유저 조회
                 = userRepository.findById(reqDTO.getCustomerId())
                 .orElseThrow(() -> new App404("찾을 수 없는 유저입니다."));
@@ -95,35 +138,35 @@ public class UserService {
                 = storeRepository.findById(reqDTO.getStoreId())
                 .orElseThrow(() -> new App404("찾을 수 없는 매장 번호입니다."));
         Order order // 주문 생성 TODO: status 기본 값 'null'
-                = new Order(reqDTO, customer, store);
+                = new Order(reqDTO, customer, store, idempotencyKey);
 
         List<OrderMenu> orderMenus = new ArrayList<>(); // 1. 응답할 주문 메뉴 리스트 생성
-        for (int om = 0; om < reqDTO.getOrderMenuList().size(); om++) {
-            List<OrderMenuOption> orderMenuOptions = new ArrayList<>(); // 1. 응답할 주문 메뉴 옵션 리스트 생성
-            OrderMenu orderMenu = orderMenuRepository // 2. 주문 메뉴 Entity 생성 및 INSERT
-                    .save(new OrderMenu(reqDTO.getOrderMenuList().get(om), order));
-            for (int omo = 0; omo < reqDTO.getOrderMenuList().get(om).getOrderMenuOptionList().size(); omo++) {
-                OrderMenuOption orderMenuOption = orderMenuOptionRepository // 2. 주문 메뉴 옵션 Entity 생성 및 INSERT
-                        .save(new OrderMenuOption(reqDTO.getOrderMenuList().get(om).getOrderMenuOptionList().get(omo), order, orderMenu));
-                // orderMenu.updateTotalPrice(orderMenuOption.getPrice()); // 3. 주문 메뉴 옵션 금액 추가 (옵션)
-                // order.updateTotalPrice(orderMenuOption.getPrice()); // 3. 주문 총액 업데이트 (메뉴 옵션)
-                orderMenuOptions.add(orderMenuOption); // 4. 주문 메뉴 옵션 컬랙션 생성 (주문 + 메뉴 옵션)
+        List<OrderMenuOption> allOrderMenuOptions = new ArrayList<>(); // 1. INSERT 할 주문 메뉴 옵션 전체
+        for (UserRequest.OrderDTO.OrderMenuDTO orderMenuDTO : reqDTO.getOrderMenuList()) {
+            OrderMenu orderMenu = new OrderMenu(orderMenuDTO, order); // 2. 주문 메뉴 Entity 생성
+            List<OrderMenuOption> orderMenuOptions = new ArrayList<>(); // 2. 응답할 주문 메뉴 옵션 리스트 생성
+            for (UserRequest.OrderDTO.OrderMenuOptionDTO orderMenuOptionDTO : orderMenuDTO.getOrderMenuOptionList()) {
+                orderMenuOptions.add(new OrderMenuOption(orderMenuOptionDTO, order, orderMenu)); // 3. 주문 메뉴 옵션 Entity 생성
             }
-            // orderMenu.updateTotalPrice(orderMenu.getPrice()); // 3. 주문 메뉴 금액 추가 (메뉴)
-            // orderMenu.setTotalPrice(orderMenu.getTotalPrice() * orderMenu.getQty()); // 3. 주문 메뉴 총액 업데이트 (갯수 처리)
-            // order.updateTotalPrice(orderMenu.getTotalPrice()); // 3. 주문 총액 업데이트 (메뉴) // 9000 + 3500
             orderMenu.setOrderMenuOptions(orderMenuOptions); // 4. 주문 메뉴 + 주문 메뉴 옵션 컬랙션
-            orderMenus.add(orderMenu); // 4. 주문 메뉴 컬랙션 생성 (주문 + 메뉴)
-        }
-        for (OrderMenu orderMenu : orderMenus) {
-            orderMenu.updateTotalPrice();
+            orderMenu.updateTotalPrice(); // 4. 주문 메뉴 총액 계산 ((메뉴 + 옵션) * 갯수)
+            orderMenus.add(orderMenu);
+            allOrderMenuOptions.addAll(orderMenuOptions);
         }
         order.setOrderMenus(orderMenus); // 5. 주문 + 주문 메뉴 컬랙션
         order.updateTotalPrice();
 
-        orderRepository.save(order); // 6. 주문 Entity INSERT
+        // 6. 주문 → 주문 메뉴 → 주문 메뉴 옵션 순서로 저장, 커밋 시점에 테이블별로 묶어서 배치 INSERT
+        orderRepository.save(order);
+        orderMenuRepository.saveAll(orderMenus);
+        orderMenuOptionRepository.saveAll(allOrderMenuOptions);
+        storeOrderCounter.add(store.getId(), order.getStatus()); // 매장 주문 수 카운터 반영 (커밋된 뒤에)
 
-        return new UserResponse.OrderDTO(order); // 7. 결과 return
+        UserResponse.OrderDTO respDTO = new UserResponse.OrderDTO(order); // 7. 결과 return
+        if (idempotencyKey != null) { // 같은 키로 재시도하면 이 응답을 그대로 돌려줌
+            orderIdempotencyCache.put(customer.getId(), idempotencyKey, respDTO);
+        }
+        return respDTO;
     }
 
     // 주문내역 목록보기 (손님)
@@ -137,11 +180,10 @@ public class UserService {
     @Transactional(readOnly = true) // 주문내역 상세보기 (손님)
     public UserResponse.OrderDetailDTO getOrderDetail(int orderId) {
         Order order // 단일 주문 내역 조회
-                = orderRepository.findById(orderId)
-                .orElseThrow(() -> new App404("찾을 수 없는 주문입니다."));
-        List<OrderMenu> orderMenus // 주문 내역의 메뉴 목록.
-                = orderMenuRepository.findAllByOrderId(orderId)
+                = orderRepository.findByIdWithCustomerAndStore(orderId)
                 .orElseThrow(() -> new App404("찾을 수 없는 주문입니다."));
+        List<OrderMenu> orderMenus // 주문 내역의 메뉴 목록 (메뉴별 옵션 포함)
+                = orderMenuRepository.findAllWithOrderMenuOptionsByOrderId(orderId);
         /* 양방향 매핑으로 변경.
         List<Integer> orderMenuIdList; // 34, 35, 36
         orderMenuIdList // 주문 메뉴별 Id 추출
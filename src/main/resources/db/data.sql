@@ -685,4 +685,17 @@ VALUES (2, 2, '맛있어요', NOW());
 INSERT INTO review_tb (user_id, store_id, content, created_at, img_filename)
 VALUES (2, 6, '달달하고 너무 맛있어용', NOW(), 'default/ittereview2.jpg');
 INSERT INTO review_tb (user_id, store_id, content, created_at, img_filename)
-VALUES (5, 6, '사장님이 친절하고 커피가 맛있어요~', NOW(),'default/ittereview1.jpg');
\ No newline at end of file
+VALUES (5, 6, '사장님이 친절하고 커피가 맛있어요~', NOW(),'default/ittereview1.jpg');
+
+-- id_generator_tb (주문 번호, 메뉴 옵션 번호 채번, 시드 데이터 다음 번호부터 50개씩 할당되도록 MAX(id) + 49 로 시작)
+UPDATE id_generator_tb SET next_id = (SELECT MAX(id) + 49 FROM order_tb) WHERE table_name = 'order_tb';
+UPDATE id_generator_tb SET next_id = (SELECT MAX(id) + 49 FROM order_menu_tb) WHERE table_name = 'order_menu_tb';
+UPDATE id_generator_tb SET next_id = (SELECT MAX(id) + 49 FROM order_menu_option_tb) WHERE table_name = 'order_menu_option_tb';
+UPDATE id_generator_tb SET next_id = (SELECT MAX(id) + 49 FROM menu_option_tb) WHERE table_name = 'menu_option_tb';
+
+-- store_tb 좋아요 수, 리뷰 수 (시드 데이터 기준으로 계산)
+UPDATE store_tb s SET like_count = (SELECT COUNT(*) FROM like_tb l WHERE l.store_id = s.id),
+                      review_count = (SELECT COUNT(*) FROM review_tb r WHERE r.store_id = s.id);
+
+-- job_lock_tb (서버 한 대에서만 실행하는 작업)
+INSERT INTO job_lock_tb (name, locked_until, locked_by) VALUES ('sales-rebuild', '2000-01-01 00:00:00', NULL);
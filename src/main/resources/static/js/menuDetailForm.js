@@ -71,6 +71,7 @@ function render(data, sessionStoreId, menuId) {
         if (option.required === true) {
             html += `
                 <tr>
+                    <input type="hidden" value="${option.id}" name="optionId"/>
                     <input type="hidden" value="true" name="optionRequired"/>
                     <th>
                         <input type="text" value="${option.name}" name="optionName" readonly required/>
@@ -105,6 +106,7 @@ function render(data, sessionStoreId, menuId) {
         if (option.required === false) {
             html += `
                 <tr>
+                    <input type="hidden" value="${option.id}" name="optionId"/>
                     <input type="hidden" value="false" name="optionRequired"/>
                     <th>
                         <input type="text" value="${option.name}" name="optionName" readonly required/>
@@ -197,6 +199,7 @@ $(document).on("change", "#editImg", (event) => uploadImage(event))
 $(document).on("click", "#addRqOpt", function () {
     let RqOpt = `
                 <tr>
+                    <input type="hidden" value="" class="input-mode" name="optionId"/>
                     <input type="hidden" value="true" id="optionRequired" class="input-mode" name="optionRequired"/>
                     <th>
                         <input type="text" placeholder="옵션 이름" id="optionName" class="input-mode" name="optionName" required/>
@@ -215,6 +218,7 @@ $(document).on("click", "#addRqOpt", function () {
 $(document).on("click", "#addOpt", function () {
     let opt = `
                 <tr>
+                    <input type="hidden" value="" class="input-mode" name="optionId"/>
                     <input type="hidden" value="false" id="optionRequired" class="input-mode" name="optionRequired"/>
                     <th>
                         <input type="text" placeholder="옵션 이름" id="optionName" class="input-mode" name="optionName" required/>
@@ -243,6 +247,7 @@ $(document).on("submit", "#menuEditForm", async function (event) {
     let menuOptions = [];
     for (let i = 0; i < formData.getAll("optionName").length; i++) {
         let option = {
+            id: formData.getAll("optionId").at(i) || null, // 새 옵션이면 null
             price: formData.getAll("optionPrice").at(i),
             name: formData.getAll("optionName").at(i),
             required: formData.getAll("optionRequired").at(i),
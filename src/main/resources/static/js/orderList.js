@@ -17,7 +17,33 @@ document.querySelector("#searchOrders").addEventListener("click", function (even
     document.getElementById("endMonth").textContent = endArr[1];
     document.getElementById("endDay").textContent = endArr[2];
 
-    fetch(`/stores/${storeId}/orders/history/date?startDate=${startDate}&endDate=${endDate}`, {
+    searchDate = {startDate: startDate, endDate: endDate};
+    fetchOrderHistories(storeId, null, false);
+});
+
+// 조회한 날짜 (없으면 전체 주문내역)
+let searchDate = null;
+
+// 더보기 - 마지막 주문 번호(nextCursorId) 다음 페이지
+document.querySelector("#moreOrders").addEventListener("click", function (event) {
+    let storeId = event.target.getAttribute('data-store-id');
+    let cursorId = event.target.getAttribute('data-cursor-id');
+    fetchOrderHistories(storeId, cursorId, true);
+});
+
+// 날짜 조회 중이면 날짜별 주문내역, 아니면 전체 주문내역 (둘 다 JSON)
+function fetchOrderHistories(storeId, cursorId, append) {
+    let params = new URLSearchParams();
+    if (searchDate !== null) {
+        params.append('startDate', searchDate.startDate);
+        params.append('endDate', searchDate.endDate);
+    }
+    if (cursorId) {
+        params.append('cursorId', cursorId);
+    }
+    let path = searchDate === null ? 'more' : 'date';
+    let url = `/stores/${storeId}/orders/history/${path}?${params}`;
+    fetch(url, {
         method: 'GET',
         headers: {
             'Content-Type': 'application/json'
@@ -30,14 +56,14 @@ document.querySelector("#searchOrders").addEventListener("click", function (even
             return response.json();
         })
         .then(data => {
-            renderOrderHistories(data);
+            renderOrderHistories(data, append);
         })
         .catch(error => {
             console.error('오류 발생:', error);
         });
-});
+}
 
-function renderOrderHistories(order) {
+function renderOrderHistories(order, append) {
     let html = "";
     if (order.orderList.length > 0) {
         order.orderList.forEach(order => {
@@ -59,10 +85,24 @@ function renderOrderHistories(order) {
             </tr>
         `;
     }
-    document.getElementById('orderHistories').innerHTML = html;
+    if (append) {
+        document.getElementById('orderHistories').insertAdjacentHTML('beforeend', html);
+    } else {
+        document.getElementById('orderHistories').innerHTML = html;
+    }
 
-    // 버튼 누르면 모달 열리게
-    document.querySelectorAll('.order-row').forEach(row => {
+    // 다음 페이지가 있을 때만 더보기 표시
+    let moreButton = document.getElementById('moreOrders');
+    moreButton.setAttribute('data-cursor-id', order.nextCursorId);
+    moreButton.style.display = order.hasNext ? '' : 'none';
+
+    bindOrderRows();
+}
+
+// 버튼 누르면 모달 열리게
+function bindOrderRows() {
+    document.querySelectorAll('.order-row:not([data-bound])').forEach(row => {
+        row.setAttribute('data-bound', 'true');
         row.addEventListener('click', function () {
             const orderId = this.dataset.orderId;
             const storeId = this.dataset.storeId;
@@ -71,6 +111,9 @@ function renderOrderHistories(order) {
     });
 }
 
+// 처음 화면에 그려진 주문내역
+bindOrderRows();
+
 // 주문 상세 모달
 function showOrderDetailModal(orderId, storeId) {
     fetch(`/stores/${storeId}/orders/${orderId}`)
@@ -75,9 +75,7 @@ document.addEventListener("DOMContentLoaded", function (event) {
             });
     }
 
-    updatePendingOrderCount();
-
-    setInterval(updatePendingOrderCount, 50000);
+    updatePendingOrderCount(); // 처음 한 번만 조회, 이후에는 SSE(pending-order-count)로 갱신
 });
 
 // 주문 상세 모달
@@ -1,4 +1,5 @@
 // sse
+// 연결이 끊기면 브라우저가 Last-Event-ID 와 함께 자동으로 재접속 (놓친 주문 알림은 서버가 다시 보내줌)
 const evtSource = new EventSource("/connect");
 evtSource.onopen = function(event) {
     console.log("서버 연결 완료, EventStream 생성")
@@ -7,10 +8,18 @@ evtSource.addEventListener("sse", function(event){
     console.log(event.data);
     alert(event.data);
 })
+evtSource.addEventListener("pending-order-count", function(event){
+    const pendingOrderCountElement = document.getElementById('pendingOrderCount');
+    if (!pendingOrderCountElement) {
+        return;
+    }
+    if (event.data === "0") {
+        pendingOrderCountElement.classList.add('hidden-count');
+    } else {
+        pendingOrderCountElement.classList.remove('hidden-count');
+    }
+    pendingOrderCountElement.innerHTML = event.data;
+})
 evtSource.onerror = function() {
-    console.log("EventStream 연결 애러")
-    evtSource.removeEventListener("sse", function(event){
-        console.log("EventStream 연결 해제");
-    });
-    evtSource.close();
+    console.log("EventStream 연결 애러, 재접속 시도");
 }
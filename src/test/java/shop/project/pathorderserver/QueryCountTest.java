@@ -0,0 +1,92 @@
+package shop.project.pathorderserver;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import shop.project.pathorderserver._core.utils.JwtUtil;
+import shop.project.pathorderserver.store.SessionStore;
+import shop.project.pathorderserver.user.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 화면(API)별 SQL 개수 - 연관 엔티티는 LAZY, 필요한 것만 fetch join 으로 한 번에 조회하는지 확인
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=shop.project.pathorderserver.QueryCounter")
+public class QueryCountTest extends MyRestDoc {
+    private static String jwt;
+    private static MockHttpSession session;
+
+    @BeforeAll
+    public static void setUp() {
+        jwt = JwtUtil.create(User.builder().id(1).username("user1").nickname("성재").build());
+        session = new MockHttpSession();
+        SessionStore sessionStore = new SessionStore();
+        sessionStore.setId(1);
+        session.setAttribute("sessionStore", sessionStore);
+    }
+
+    @BeforeEach
+    public void clear() {
+        QueryCounter.clear();
+    }
+
+    @Test // 매장 리뷰 보기 - 리뷰 + 작성자
+    public void store_review_list_query_count_test() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/stores/{storeId}/reviews", 1)
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk());
+
+        assertThat(QueryCounter.getCount()).isEqualTo(1);
+    }
+
+    @Test // 내 리뷰 보기 - 리뷰 + 작성자
+    public void my_review_list_query_count_test() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users/{userId}/reviews", 1)
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk());
+
+        assertThat(QueryCounter.getCount()).isEqualTo(1);
+    }
+
+    @Test // 회원 주문내역 목록보기 - 주문 + 주문 메뉴
+    public void user_order_list_query_count_test() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users/{userId}/orders", 1)
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk());
+
+        assertThat(QueryCounter.getCount()).isEqualTo(1);
+    }
+
+    @Test // 회원 주문내역 상세보기 - 주문(손님, 매장) 1 + 주문 메뉴(옵션) 1
+    public void user_order_detail_query_count_test() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/users/{userId}/orders/{orderId}", 1, 7)
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk());
+
+        assertThat(QueryCounter.getCount()).isEqualTo(2);
+    }
+
+    @Test // 매장 관리자 - 주문내역 상세보기 (OrderDetailDTO) - 주문(손님, 매장) 1 + 주문 메뉴(옵션) 1
+    public void store_order_detail_query_count_test() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/stores/{storeId}/orders/{orderId}", 1, 1)
+                        .session(session))
+                .andExpect(status().isOk());
+
+        assertThat(QueryCounter.getCount()).isEqualTo(2);
+    }
+
+    @Test // 매장 관리자 - 메뉴 목록보기 (MenuListDTO) - 메뉴 + 옵션
+    public void store_menu_list_query_count_test() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/stores/{storeId}/menus", 1)
+                        .session(session))
+                .andExpect(status().isOk());
+
+        assertThat(QueryCounter.getCount()).isEqualTo(1);
+    }
+}
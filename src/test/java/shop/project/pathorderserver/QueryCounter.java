@@ -0,0 +1,22 @@
+package shop.project.pathorderserver;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 테스트용 - 현재 스레드에서 실행된 SQL 개수 (MockMvc 요청은 테스트 스레드에서 실행됨, 스케줄러 쿼리는 세지 않음)
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    public static void clear() {
+        COUNT.set(0);
+    }
+
+    public static int getCount() {
+        return COUNT.get();
+    }
+}
@@ -0,0 +1,47 @@
+package shop.project.pathorderserver._core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+    PasswordHasher passwordHasher = new PasswordHasher(4, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test // 해시 후 검증
+    void hash_test() {
+        // given
+        String rawPassword = "1234";
+        // when
+        String hashed = passwordHasher.hash(rawPassword);
+        // then
+        Assertions.assertThat(hashed).startsWith("$2a$04$").isNotEqualTo(rawPassword);
+        Assertions.assertThat(passwordHasher.matches("1234", hashed)).isTrue();
+        Assertions.assertThat(passwordHasher.matches("4321", hashed)).isFalse();
+        Assertions.assertThat(passwordHasher.needsRehash(hashed)).isFalse();
+    }
+
+    @Test // 이전 평문 비밀번호, 다른 cost 로 만든 해시는 다시 해시 대상
+    void needsRehash_test() {
+        // given
+        String plainPassword = "1234";
+        PasswordHasher otherCostHasher = new PasswordHasher(5, 1, 10);
+        String otherCostHash;
+        try {
+            otherCostHash = otherCostHasher.hash("1234");
+        } finally {
+            otherCostHasher.shutdown();
+        }
+        // then
+        Assertions.assertThat(passwordHasher.matches("1234", plainPassword)).isTrue();
+        Assertions.assertThat(passwordHasher.matches("12345", plainPassword)).isFalse();
+        Assertions.assertThat(passwordHasher.needsRehash(plainPassword)).isTrue();
+        Assertions.assertThat(passwordHasher.matches("1234", otherCostHash)).isTrue();
+        Assertions.assertThat(passwordHasher.needsRehash(otherCostHash)).isTrue();
+        Assertions.assertThat(passwordHasher.matches("1234", null)).isFalse(); // 없는 아이디
+    }
+}
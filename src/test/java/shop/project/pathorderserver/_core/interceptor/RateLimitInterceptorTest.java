@@ -0,0 +1,117 @@
+package shop.project.pathorderserver._core.interceptor;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import shop.project.pathorderserver._core.config.RateLimitProperties;
+import shop.project.pathorderserver._core.errors.exception.App429;
+import shop.project.pathorderserver._core.errors.exception.Web429;
+import shop.project.pathorderserver.user.SessionUser;
+
+import java.util.List;
+
+class RateLimitInterceptorTest {
+    RateLimitInterceptor rateLimitInterceptor = new RateLimitInterceptor(properties());
+
+    @Test // 회원별로 capacity 만큼 허용 후 429, 다른 회원/조회 요청은 영향 없음
+    void preHandle_user_test() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(preHandle("POST", "/api/users/1/orders", 1, "10.0.0.1")).isTrue();
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // when
+        Assertions.assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request("POST", "/api/users/1/orders", 1, "10.0.0.1"), response, null))
+                .isInstanceOf(App429.class);
+        // then
+        Assertions.assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        Assertions.assertThat(preHandle("POST", "/api/users/2/orders", 2, "10.0.0.1")).isTrue();
+        Assertions.assertThat(preHandle("GET", "/api/users/1/orders", 1, "10.0.0.1")).isTrue();
+    }
+
+    @Test // 로그인 전 요청은 IP 별로 제한, 가득 찬 버킷만 정리
+    void preHandle_ip_test() throws Exception {
+        // given
+        Assertions.assertThat(preHandle("POST", "/login", null, "10.0.0.1")).isTrue();
+        Assertions.assertThat(preHandle("POST", "/login", null, "10.0.0.1")).isTrue();
+        Assertions.assertThatThrownBy(() -> preHandle("POST", "/login", null, "10.0.0.1")).isInstanceOf(App429.class);
+        Assertions.assertThat(preHandle("POST", "/login", null, "10.0.0.2")).isTrue();
+        // when
+        rateLimitInterceptor.evictIdleBuckets();
+        // then
+        Assertions.assertThat(rateLimitInterceptor.getBucketCount()).isEqualTo(2);
+    }
+
+    @Test // 화면을 돌려주는 핸들러(매장 관리자 로그인 폼)는 에러 페이지용 Web429, JSON 핸들러는 App429
+    void preHandle_view_test() throws Exception {
+        // given
+        HandlerMethod viewHandler = new HandlerMethod(new Handlers(), Handlers.class.getMethod("view"));
+        HandlerMethod jsonHandler = new HandlerMethod(new Handlers(), Handlers.class.getMethod("json"));
+        preHandle("POST", "/login", null, "10.0.0.3");
+        preHandle("POST", "/login", null, "10.0.0.3");
+        // then
+        Assertions.assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request("POST", "/login", null, "10.0.0.3"), new MockHttpServletResponse(), viewHandler))
+                .isInstanceOf(Web429.class);
+        Assertions.assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request("POST", "/login", null, "10.0.0.3"), new MockHttpServletResponse(), jsonHandler))
+                .isInstanceOf(App429.class);
+    }
+
+    static class Handlers {
+        public String view() {
+            return "login-form";
+        }
+
+        public ResponseEntity<?> json() {
+            return ResponseEntity.ok().build();
+        }
+    }
+
+    @Test // 잘못된 규칙은 서버 시작 시 바로 실패 (0 으로 나누기 대신 설정 오류 메시지)
+    void rule_validation_test() {
+        // given
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("login");
+        rule.setPattern("/login");
+        rule.setCapacity(10);
+        rule.setRefillPerMinute(0);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        // then
+        Assertions.assertThatThrownBy(() -> new RateLimitInterceptor(properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("refill-per-minute");
+    }
+
+    private boolean preHandle(String method, String uri, Integer userId, String remoteAddr) throws Exception {
+        return rateLimitInterceptor.preHandle(request(method, uri, userId, remoteAddr), new MockHttpServletResponse(), null);
+    }
+
+    private MockHttpServletRequest request(String method, String uri, Integer userId, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (userId != null) {
+            request.setAttribute("sessionUser", new SessionUser(userId, "user" + userId, "닉네임"));
+        }
+        return request;
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Rule order = new RateLimitProperties.Rule();
+        order.setName("order");
+        order.setPattern("/api/users/*/orders");
+        order.setMethods(List.of("POST"));
+        order.setCapacity(3);
+        order.setRefillPerMinute(1);
+        RateLimitProperties.Rule login = new RateLimitProperties.Rule();
+        login.setName("login");
+        login.setPattern("/login");
+        login.setCapacity(2);
+        login.setRefillPerMinute(1);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(order, login));
+        return properties;
+    }
+}
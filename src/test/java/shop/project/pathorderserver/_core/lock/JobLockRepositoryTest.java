@@ -0,0 +1,34 @@
+package shop.project.pathorderserver._core.lock;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.Timestamp;
+
+@DataJpaTest
+class JobLockRepositoryTest {
+    @Autowired
+    JobLockRepository jobLockRepository;
+
+    @Test // 한 서버만 잠금을 잡고, 연장/해제는 잡은 서버만, 만료되면 다른 서버가 가져감
+    void tryLock_test() {
+        // given
+        String name = "sales-rebuild";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Timestamp until = new Timestamp(now.getTime() + 60_000);
+        // when
+        int serverA = jobLockRepository.tryLock(name, "A", now, until);
+        int serverB = jobLockRepository.tryLock(name, "B", now, until);
+        int renewA = jobLockRepository.tryLock(name, "A", now, until);
+        int unlockB = jobLockRepository.unlock(name, "B", now);
+        int expiredB = jobLockRepository.tryLock(name, "B", new Timestamp(until.getTime() + 1), new Timestamp(until.getTime() + 60_000));
+        // then
+        Assertions.assertThat(serverA).isEqualTo(1);
+        Assertions.assertThat(serverB).isZero();
+        Assertions.assertThat(renewA).isEqualTo(1);
+        Assertions.assertThat(unlockB).isZero();
+        Assertions.assertThat(expiredB).isEqualTo(1);
+    }
+}
@@ -0,0 +1,45 @@
+package shop.project.pathorderserver._core.utils;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import shop.project.pathorderserver._core.errors.exception.App400;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Random;
+
+class FileUtilTest {
+
+    @Test // data URI(Base64) 를 나눠서 디코딩해도 원본과 같은 파일로 저장
+    void uploadBase64_test() throws Exception {
+        // given
+        byte[] image = new byte[20_000]; // 디코딩 버퍼보다 큰 크기
+        new Random(1).nextBytes(image);
+        String encodedData = "data:image/png;base64," + Base64.getEncoder().encodeToString(image);
+        // when
+        String filename = FileUtil.uploadBase64(encodedData, "menu");
+        String jpgFilename = FileUtil.uploadBase64Jpg(Base64.getEncoder().encodeToString(image), "review");
+        // then
+        try {
+            Assertions.assertThat(filename).endsWith("_menu.png");
+            Assertions.assertThat(Files.readAllBytes(Paths.get("./upload/" + filename))).isEqualTo(image);
+            Assertions.assertThat(jpgFilename).endsWith("_review.jpg");
+            Assertions.assertThat(Files.readAllBytes(Paths.get("./upload/" + jpgFilename))).isEqualTo(image);
+        } finally {
+            FileUtil.deleteFile(filename);
+            FileUtil.deleteFile(jpgFilename);
+        }
+    }
+
+    @Test // 잘못된 Base64 는 400, 쓰다 만 파일은 남기지 않음
+    void uploadBase64Jpg_fail_test() {
+        // given
+        String encodedData = Base64.getEncoder().encodeToString(new byte[10_000]) + "가나다";
+        int fileCount = new File("./upload").list().length;
+        // then
+        Assertions.assertThatThrownBy(() -> FileUtil.uploadBase64Jpg(encodedData, "review")).isInstanceOf(App400.class);
+        Assertions.assertThat(new File("./upload").list().length).isEqualTo(fileCount);
+    }
+}
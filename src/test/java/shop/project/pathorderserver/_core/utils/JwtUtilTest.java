@@ -0,0 +1,46 @@
+package shop.project.pathorderserver._core.utils;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import shop.project.pathorderserver.user.SessionUser;
+import shop.project.pathorderserver.user.User;
+
+import java.util.Date;
+
+class JwtUtilTest {
+
+    @Test // 같은 토큰은 캐시에서 응답, 매번 새 SessionUser 반환
+    void verify_cache_test() {
+        // given
+        String jwt = JwtUtil.create(User.builder().id(1).username("user1").nickname("성재").build());
+        // when
+        SessionUser first = JwtUtil.verify(jwt);
+        first.setNickname("변경");
+        SessionUser second = JwtUtil.verify(jwt);
+        // then
+        Assertions.assertThat(second.getId()).isEqualTo(1);
+        Assertions.assertThat(second.getNickname()).isEqualTo("성재");
+        Assertions.assertThat(second).isNotSameAs(first);
+    }
+
+    @Test // 만료된 토큰, 서명이 다른 토큰은 캐시되지 않음
+    void verify_fail_test() {
+        // given
+        String expired = JWT.create()
+                .withExpiresAt(new Date(System.currentTimeMillis() - 1000))
+                .withClaim("id", 1)
+                .sign(Algorithm.HMAC512("passorder"));
+        String forged = JWT.create()
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60 * 1000))
+                .withClaim("id", 1)
+                .sign(Algorithm.HMAC512("other"));
+        // then
+        Assertions.assertThatThrownBy(() -> JwtUtil.verify(expired)).isInstanceOf(TokenExpiredException.class);
+        Assertions.assertThatThrownBy(() -> JwtUtil.verify(forged)).isInstanceOf(SignatureVerificationException.class);
+        Assertions.assertThatThrownBy(() -> JwtUtil.verify(forged)).isInstanceOf(SignatureVerificationException.class);
+    }
+}
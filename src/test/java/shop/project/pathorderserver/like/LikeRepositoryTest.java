@@ -0,0 +1,45 @@
+package shop.project.pathorderserver.like;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import shop.project.pathorderserver.store.StoreRepository;
+
+import java.util.List;
+
+@DataJpaTest
+class LikeRepositoryTest {
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    StoreRepository storeRepository;
+
+    // 사용자가 좋아요한 매장 목록 (매장 정보 + 좋아요 수 + 리뷰 수)
+    @Test
+    void findLikesByUserId_test() {
+        // given
+        int userId = 1;
+        storeRepository.recountCounts(1);
+        // when
+        List<LikeResponse.LikeListDTO> likeList = likeRepository.findLikesByUserId(userId);
+        // then
+        Assertions.assertThat(likeList.size()).isEqualTo(4);
+        Assertions.assertThat(likeList.getFirst().getStoreId()).isEqualTo(1);
+        Assertions.assertThat(likeList.getFirst().getStoreName()).isEqualTo("연의양과");
+        Assertions.assertThat(likeList.getFirst().getLikeCount()).isEqualTo(3);
+        Assertions.assertThat(likeList.getFirst().getReviewCount()).isEqualTo(2);
+        Assertions.assertThat(likeList.getFirst().isLike()).isTrue();
+    }
+
+    // 사용자가 좋아요한 매장 번호
+    @Test
+    void findStoreIdsByUserId_test() {
+        // given
+        int userId = 1;
+        // when
+        List<Integer> storeIds = likeRepository.findStoreIdsByUserId(userId);
+        // then
+        Assertions.assertThat(storeIds).containsExactlyInAnyOrder(1, 2, 3, 6);
+    }
+}
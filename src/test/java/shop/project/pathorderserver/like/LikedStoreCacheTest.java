@@ -0,0 +1,81 @@
+package shop.project.pathorderserver.like;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LikedStoreCacheTest {
+    LikedStoreCache likedStoreCache = new LikedStoreCache(null);
+
+    @Test // 캐시에 있으면 다시 조회하지 않고, 이 서버의 좋아요 변경은 바로 반영, TTL 이 지나면 다시 조회
+    void get_test() {
+        // given
+        int userId = 1;
+        AtomicInteger loadCount = new AtomicInteger();
+        // when
+        LikedStoreCache.StoreIdSet first = likedStoreCache.get(userId, 0, key -> {
+            loadCount.incrementAndGet();
+            return List.of(3, 1);
+        });
+        likedStoreCache.add(userId, 2); // 트랜잭션 밖이면 바로 반영
+        likedStoreCache.remove(userId, 3);
+        LikedStoreCache.StoreIdSet cached = likedStoreCache.get(userId, 1000, key -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        });
+        LikedStoreCache.StoreIdSet expired = likedStoreCache.get(userId, 60 * 1000, key -> {
+            loadCount.incrementAndGet();
+            return List.of(5); // 다른 서버에서 바뀐 좋아요
+        });
+        // then
+        Assertions.assertThat(first.contains(1)).isTrue();
+        Assertions.assertThat(first.contains(3)).isTrue();
+        Assertions.assertThat(cached.contains(2)).isTrue();
+        Assertions.assertThat(cached.contains(3)).isFalse();
+        Assertions.assertThat(expired.contains(5)).isTrue();
+        Assertions.assertThat(expired.size()).isEqualTo(1);
+        Assertions.assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test // 조회하는 사이에 좋아요가 바뀌면 조회 결과를 캐시하지 않음
+    void get_race_test() {
+        // given
+        int userId = 1;
+        AtomicInteger loadCount = new AtomicInteger();
+        // when
+        LikedStoreCache.StoreIdSet stale = likedStoreCache.get(userId, 0, key -> {
+            loadCount.incrementAndGet();
+            likedStoreCache.add(userId, 2); // 조회 중에 커밋된 좋아요
+            return List.of(1);
+        });
+        LikedStoreCache.StoreIdSet reloaded = likedStoreCache.get(userId, 0, key -> {
+            loadCount.incrementAndGet();
+            return List.of(1, 2);
+        });
+        // then
+        Assertions.assertThat(stale.contains(2)).isFalse();
+        Assertions.assertThat(reloaded.contains(2)).isTrue();
+        Assertions.assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test // 정렬된 불변 집합, with/without 은 새 집합을 반환
+    void storeIdSet_test() {
+        // given
+        LikedStoreCache.StoreIdSet storeIds = LikedStoreCache.StoreIdSet.of(List.of(5, 1, 3, 3));
+        // when
+        LikedStoreCache.StoreIdSet added = storeIds.with(4);
+        LikedStoreCache.StoreIdSet removed = storeIds.without(1);
+        // then
+        Assertions.assertThat(storeIds.size()).isEqualTo(3);
+        Assertions.assertThat(storeIds.contains(4)).isFalse();
+        Assertions.assertThat(added.size()).isEqualTo(4);
+        Assertions.assertThat(added.contains(4)).isTrue();
+        Assertions.assertThat(removed.contains(1)).isFalse();
+        Assertions.assertThat(removed.contains(5)).isTrue();
+        Assertions.assertThat(storeIds.with(3)).isSameAs(storeIds);
+        Assertions.assertThat(storeIds.without(2)).isSameAs(storeIds);
+        Assertions.assertThat(LikedStoreCache.StoreIdSet.of(List.of()).without(1).size()).isZero();
+    }
+}
@@ -1,14 +1,13 @@
 package shop.project.pathorderserver.order;
 
-import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import shop.project.pathorderserver._core.errors.exception.App404;
+import shop.project.pathorderserver.store.StoreResponse;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,41 +29,49 @@ class OrderRepositoryTest {
     }
 
     @Test
-        // 매장 주문내역 목록보기
-    void findAllByStoreId_test() {
+        // 주문 현황판 - 처리중인 주문만
+    void findAllByStoreIdAndStatusIn_test() {
         // given
         int storeId = 1;
+        List<OrderStatus> statuses = List.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.PREPARED);
         // when
-        Optional<List<Order>> orderList = orderRepository.findAllByStoreId(storeId);
+        List<StoreResponse.OrdersDTO> orderList = orderRepository.findAllByStoreIdAndStatusIn(storeId, statuses);
         // then
-        assertThat(orderList.get().size()).isEqualTo(12);
+        assertThat(orderList.size()).isEqualTo(5);
+        assertThat(orderList).allMatch(order -> order.getStatus() == OrderStatus.PENDING);
+        assertThat(orderList.getFirst().getMenuList()).isEmpty();
     }
 
     @Test
-    public void findAllByStoreIdWithOrderMenu_test() {
-        //given
+        // 매장별, 상태별 주문 수
+    void countGroupByStoreIdAndStatus_test() {
+        // given
         int storeId = 1;
         // when
-        List<Order> orderList = orderRepository.findAllByStoreIdWithOrderMenu(storeId)
-                .orElseThrow(() -> new App404("찾을 수 없는 주문입니다."));
+        List<StoreResponse.OrderStatusCountDTO> counts = orderRepository.countGroupByStoreIdAndStatusIn(List.of(OrderStatus.PENDING, OrderStatus.PREPARING));
         // then
-//        System.out.println("findOrdersByStoreId_test: " + orderListOP);
-        assertThat(orderList.getFirst().getStore().getUsername()).isEqualTo("david1234");
-        assertThat(orderList.getFirst().getStatus()).isEqualTo(OrderStatus.SERVED);
-
+        List<StoreResponse.OrderStatusCountDTO> storeCounts = counts.stream()
+                .filter(count -> count.getStoreId() == storeId)
+                .toList();
+        assertThat(counts).allMatch(count -> count.getStatus() == OrderStatus.PENDING || count.getStatus() == OrderStatus.PREPARING);
+        assertThat(storeCounts.stream()
+                .filter(count -> count.getStatus() == OrderStatus.PENDING)
+                .findFirst().orElseThrow().getCount()).isEqualTo(5);
     }
 
     @Test
-    public void findAllByStoreIdAndCreatedAtBetween_test() {
+    public void findHistoryByStoreId_test() {
         //given
         int storeId = 1;
-        LocalDate startDate = LocalDate.of(2024, 1, 21);
-        LocalDate endDate = LocalDate.now();
-
+        List<OrderStatus> excludedStatuses = List.of(OrderStatus.PENDING, OrderStatus.PREPARING, OrderStatus.PREPARED);
         // when
-        List<Order> orderList = orderRepository.findAllByStoreIdAndCreatedAtBetween(storeId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
+        List<StoreResponse.OrderListDTO.OrderDTO> firstPage = orderRepository.findHistoryByStoreId(storeId, excludedStatuses, Integer.MAX_VALUE, PageRequest.of(0, 3));
+        List<StoreResponse.OrderListDTO.OrderDTO> nextPage = orderRepository.findHistoryByStoreId(storeId, excludedStatuses, firstPage.getLast().getOrderId(), PageRequest.of(0, 3));
         // then
-        Assertions.assertThat(orderList.getFirst().getOrderMenus().getFirst().getName()).isEqualTo("아메리카노");
-        Assertions.assertThat(orderList.getFirst().getCustomerNickname()).isEqualTo("찬혁");
+        assertThat(firstPage).hasSize(3);
+        assertThat(firstPage.getFirst().getOrderId()).isGreaterThan(firstPage.getLast().getOrderId()); // 최근 주문부터
+        assertThat(nextPage.getFirst().getOrderId()).isLessThan(firstPage.getLast().getOrderId());
+        assertThat(firstPage).extracting(StoreResponse.OrderListDTO.OrderDTO::getStatus)
+                .doesNotContain(OrderStatus.PENDING.getValue(), OrderStatus.PREPARING.getValue(), OrderStatus.PREPARED.getValue());
     }
 }
@@ -0,0 +1,65 @@
+package shop.project.pathorderserver.sales;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL 모드 H2 (ON DUPLICATE KEY UPDATE), 다른 테스트 컨텍스트와 DB 를 공유하지 않도록 이름을 따로 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:sales;MODE=MySQL")
+class DailySalesRepositoryTest {
+    @Autowired
+    DailySalesRepository dailySalesRepository;
+    @Autowired
+    DailyMenuSalesRepository dailyMenuSalesRepository;
+    @Autowired
+    EntityManager em;
+
+    @Test // 수령완료 주문만 매장별, 일자별로 집계
+    public void sumServedOrders_test() {
+        // given
+        int storeId = 1;
+        LocalDate today = LocalDate.now();
+        // when
+        List<DailySales> dailySalesList = dailySalesRepository.sumServedOrders(today.minusDays(7).atStartOfDay(), today.plusDays(1).atStartOfDay());
+        List<DailyMenuSales> dailyMenuSalesList = dailyMenuSalesRepository.sumServedOrderMenus(today.minusDays(7).atStartOfDay(), today.plusDays(1).atStartOfDay());
+        // then
+        List<DailySales> storeSalesList = dailySalesList.stream().filter(dailySales -> dailySales.getStoreId() == storeId).toList();
+        assertThat(storeSalesList).extracting(DailySales::getSalesDate).containsOnly(today.minusDays(2), today.minusDays(1));
+        assertThat(storeSalesList.stream().mapToLong(DailySales::getOrderCount).sum()).isEqualTo(7);
+        assertThat(dailyMenuSalesList.stream()
+                .filter(dailyMenuSales -> dailyMenuSales.getStoreId() == storeId)
+                .filter(dailyMenuSales -> dailyMenuSales.getSalesDate().equals(today.minusDays(2)))
+                .filter(dailyMenuSales -> dailyMenuSales.getMenuName().equals("아메리카노"))
+                .findFirst().orElseThrow().getQty()).isEqualTo(6); // 3 건 x 2 잔
+    }
+
+    @Test // 집계 행이 없으면 생성, 있으면 증가 (한 행으로 합쳐짐)
+    public void addOrder_test() {
+        // given
+        int storeId = 1;
+        LocalDate salesDate = LocalDate.of(2024, 5, 1);
+        // when
+        dailySalesRepository.addOrder(storeId, salesDate, 3600);
+        dailySalesRepository.addOrder(storeId, salesDate, 4000);
+        dailyMenuSalesRepository.addMenu(storeId, salesDate, "아메리카노", 2, 3000);
+        dailyMenuSalesRepository.addMenu(storeId, salesDate, "아메리카노", 1, 1500);
+        em.clear(); // 네이티브 쿼리는 영속성 컨텍스트를 거치지 않음
+        // then
+        List<DailySales> dailySalesList = dailySalesRepository.findAllByStoreIdAndSalesDateBetween(storeId, salesDate, salesDate.plusDays(1));
+        assertThat(dailySalesList).hasSize(1);
+        assertThat(dailySalesList.getFirst().getOrderCount()).isEqualTo(2);
+        assertThat(dailySalesList.getFirst().getRevenue()).isEqualTo(7600);
+        List<DailyMenuSales> dailyMenuSalesList = dailyMenuSalesRepository.findAllByStoreIdAndSalesDateBetween(storeId, salesDate, salesDate.plusDays(1));
+        assertThat(dailyMenuSalesList).hasSize(1);
+        assertThat(dailyMenuSalesList.getFirst().getQty()).isEqualTo(3);
+        assertThat(dailyMenuSalesList.getFirst().getRevenue()).isEqualTo(4500);
+    }
+}
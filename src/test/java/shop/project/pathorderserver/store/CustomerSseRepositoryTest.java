@@ -0,0 +1,25 @@
+package shop.project.pathorderserver.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class CustomerSseRepositoryTest {
+    CustomerSseRepository customerSseRepository = new CustomerSseRepository();
+
+    @Test // 연결이 없고 오래된 손님의 이벤트 버퍼만 제거
+    void evictIdleEvents_test() {
+        // given
+        customerSseRepository.saveEvent(1, new StoreSseEvent(1L, StoreSseEvent.Channel.CUSTOMER, 1, "order-status", "{}"));
+        customerSseRepository.saveEvent(2, new StoreSseEvent(2L, StoreSseEvent.Channel.CUSTOMER, 2, "order-status", "{}"));
+        customerSseRepository.save(2, new StoreSseConnection("app", new SseEmitter(), 10, SseOverflowPolicy.DROP_OLDEST, Runnable::run));
+        // when
+        customerSseRepository.evictIdleEvents(System.currentTimeMillis()); // 아직 TTL 전
+        int beforeTtl = customerSseRepository.countRecentEvents();
+        customerSseRepository.evictIdleEvents(System.currentTimeMillis() + 10 * 60 * 1000);
+        // then
+        Assertions.assertThat(beforeTtl).isEqualTo(2);
+        Assertions.assertThat(customerSseRepository.findEventsAfter(1, 0)).isEmpty();
+        Assertions.assertThat(customerSseRepository.findEventsAfter(2, 0)).extracting(StoreSseEvent::getId).containsExactly(2L);
+    }
+}
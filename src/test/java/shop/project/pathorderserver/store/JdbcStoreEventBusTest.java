@@ -0,0 +1,103 @@
+package shop.project.pathorderserver.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@SpringBootTest
+class JdbcStoreEventBusTest {
+    @Autowired
+    StoreEventRepository storeEventRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        storeEventRepository.deleteAll();
+    }
+
+    @Test // 다른 서버가 발행한 이벤트를 store_event_tb 에서 읽어 구독자에게 전달
+    void poll_test() {
+        // given
+        JdbcStoreEventBus publisher = new JdbcStoreEventBus(storeEventRepository, transactionManager, Runnable::run); // 서버 A
+        JdbcStoreEventBus receiver = new JdbcStoreEventBus(storeEventRepository, transactionManager, Runnable::run); // 서버 B
+        List<StoreSseEvent> received = new ArrayList<>();
+        receiver.subscribe(received::add);
+        receiver.start();
+        StoreSseEvent event1 = new StoreSseEvent(StoreSseEvent.Channel.STORE, 1, "sse", "22번 주문 알림.");
+        StoreSseEvent event2 = new StoreSseEvent(StoreSseEvent.Channel.CUSTOMER, 3, "order-status", "{\"orderId\":22}");
+        publisher.publish(event1);
+        publisher.publish(event2);
+        // when
+        receiver.poll();
+        receiver.poll(); // 이미 받은 이벤트는 다시 전달하지 않음
+        // then
+        Assertions.assertThat(received).extracting(StoreSseEvent::getId).containsExactly(event1.getId(), event2.getId());
+        Assertions.assertThat(received.get(1).getChannel()).isEqualTo(StoreSseEvent.Channel.CUSTOMER);
+        Assertions.assertThat(received.get(1).getTargetId()).isEqualTo(3);
+        Assertions.assertThat(received.get(1).getData()).isEqualTo("{\"orderId\":22}");
+    }
+
+    @Test // 번호가 작은 이벤트가 번호가 큰 이벤트보다 늦게 커밋돼도 한 번씩 전달
+    void poll_late_commit_test() throws Exception {
+        // given
+        JdbcStoreEventBus publisher = new JdbcStoreEventBus(storeEventRepository, transactionManager, Runnable::run);
+        JdbcStoreEventBus receiver = new JdbcStoreEventBus(storeEventRepository, transactionManager, Runnable::run);
+        List<StoreSseEvent> received = new ArrayList<>();
+        receiver.subscribe(received::add);
+        receiver.start();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        AtomicLong lateEventId = new AtomicLong();
+        Thread slowPublisher = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            StoreEvent storeEvent = storeEventRepository.save(new StoreEvent(new StoreSseEvent(StoreSseEvent.Channel.STORE, 1, "sse", "늦게 커밋")));
+            lateEventId.set(storeEvent.getId());
+            inserted.countDown();
+            try {
+                commit.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        slowPublisher.start();
+        inserted.await(5, TimeUnit.SECONDS);
+        StoreSseEvent event = new StoreSseEvent(StoreSseEvent.Channel.STORE, 1, "sse", "먼저 커밋");
+        publisher.publish(event);
+        // when
+        receiver.poll(); // 번호가 큰 이벤트만 보임
+        commit.countDown();
+        slowPublisher.join();
+        receiver.poll();
+        receiver.poll();
+        // then
+        Assertions.assertThat(lateEventId.get()).isLessThan(event.getId());
+        Assertions.assertThat(received).extracting(StoreSseEvent::getId).containsExactly(event.getId(), lateEventId.get());
+    }
+
+    @Test // 발행은 전용 스레드에서 INSERT, 종료 시 대기 중인 발행을 마저 처리
+    void publish_async_test() throws Exception {
+        // given
+        JdbcStoreEventBus publisher = new JdbcStoreEventBus(storeEventRepository, transactionManager);
+        JdbcStoreEventBus receiver = new JdbcStoreEventBus(storeEventRepository, transactionManager, Runnable::run);
+        List<StoreSseEvent> received = new ArrayList<>();
+        receiver.subscribe(received::add);
+        receiver.start();
+        // when
+        publisher.publish(new StoreSseEvent(StoreSseEvent.Channel.STORE, 1, "sse", "1번"));
+        publisher.publish(new StoreSseEvent(StoreSseEvent.Channel.STORE, 1, "sse", "2번"));
+        publisher.shutdown();
+        receiver.poll();
+        // then
+        Assertions.assertThat(received).extracting(StoreSseEvent::getData).containsExactly("1번", "2번");
+    }
+}
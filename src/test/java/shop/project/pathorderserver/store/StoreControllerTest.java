@@ -1,6 +1,7 @@
 package shop.project.pathorderserver.store;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,7 +14,7 @@ import shop.project.pathorderserver._core.utils.JwtUtil;
 import shop.project.pathorderserver.user.User;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @Transactional
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
@@ -58,6 +59,65 @@ public class StoreControllerTest extends MyRestDoc {
         actions.andDo(MockMvcResultHandlers.print()).andDo(document);
     }
 
+    // 매장 목록보기 - JWT 인증 요청은 세션을 만들지 않음
+    @Test
+    public void store_list_without_session_test() throws Exception {
+        //given
+        //when
+        ResultActions actions = mockMvc.perform(
+                get("/api/stores")
+                        .header("Authorization", "Bearer " + jwt)
+        );
+        //then
+        actions.andExpect(jsonPath("$.status").value(200));
+        actions.andExpect(result -> Assertions.assertThat(result.getRequest().getSession(false)).isNull());
+    }
+
+    // 매장 목록보기 - 커서 페이징
+    @Test
+    public void store_feed_test() throws Exception {
+        //given
+        int size = 2;
+        //when
+        ResultActions actions = mockMvc.perform(
+                get("/api/stores/feed")
+                        .param("size", String.valueOf(size))
+                        .header("Authorization", "Bearer " + jwt)
+        );
+        //then
+        actions.andExpect(jsonPath("$.status").value(200));
+        actions.andExpect(jsonPath("$.msg").value("성공"));
+        actions.andExpect(jsonPath("$.body.storeList.length()").value(2));
+        actions.andExpect(jsonPath("$.body.storeList[0].id").value(4));
+        actions.andExpect(jsonPath("$.body.storeList[0].distance").value(159));
+        actions.andExpect(jsonPath("$.body.hasNext").value(true));
+        actions.andExpect(jsonPath("$.body.nextCursorStoreId").isNumber());
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
+
+    // 매장 목록보기 - 커서 페이징 (다음 페이지)
+    @Test
+    public void store_feed_next_test() throws Exception {
+        //given
+        int cursorDistance = 159;
+        int cursorStoreId = 4;
+        //when
+        ResultActions actions = mockMvc.perform(
+                get("/api/stores/feed")
+                        .param("cursorDistance", String.valueOf(cursorDistance))
+                        .param("cursorStoreId", String.valueOf(cursorStoreId))
+                        .param("size", "10")
+                        .header("Authorization", "Bearer " + jwt)
+        );
+        //then
+        actions.andExpect(jsonPath("$.status").value(200));
+        actions.andExpect(jsonPath("$.body.storeList.length()").value(5));
+        actions.andExpect(jsonPath("$.body.storeList[?(@.id == 4)]").isEmpty());
+        actions.andExpect(jsonPath("$.body.hasNext").value(false));
+        actions.andExpect(jsonPath("$.body.nextCursorStoreId").isEmpty());
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
+
     // 매장 상세보기
     @Test
     public void store_info_test() throws Exception {
@@ -131,6 +191,27 @@ public class StoreControllerTest extends MyRestDoc {
         actions.andDo(MockMvcResultHandlers.print()).andDo(document);
     }
 
+    // 매장 메뉴보기 - 메뉴가 바뀌지 않았으면 304
+    @Test
+    public void store_menu_list_not_modified_test() throws Exception {
+        //given
+        int storeId = 1;
+        String eTag = mockMvc.perform(
+                get("/api/stores/" + storeId + "/menus")
+                        .header("Authorization", "Bearer " + jwt)
+        ).andReturn().getResponse().getHeader("ETag");
+        //when
+        ResultActions actions = mockMvc.perform(
+                get("/api/stores/" + storeId + "/menus")
+                        .header("Authorization", "Bearer " + jwt)
+                        .header("If-None-Match", eTag)
+        );
+        //then
+        actions.andExpect(status().isNotModified());
+        actions.andExpect(header().string("ETag", eTag));
+        actions.andExpect(content().string(""));
+    }
+
     // 매장 메뉴 옵션보기
     @Test
     public void store_menu_detail_test() throws Exception {
@@ -0,0 +1,51 @@
+package shop.project.pathorderserver.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StoreMenuCacheTest {
+    StoreMenuCache storeMenuCache = new StoreMenuCache(new ObjectMapper());
+
+    @Test // 캐시에 있으면 다시 불러오지 않고, ETag 는 메뉴 내용이 같으면 같고 바뀌면 달라짐
+    void get_and_evict_test() {
+        // given
+        int storeId = 1;
+        AtomicInteger loadCount = new AtomicInteger();
+        Store store = new Store();
+        store.setId(storeId);
+        store.setName("연의양과");
+        // when
+        StoreMenuCache.Snapshot first = storeMenuCache.get(storeId, () -> {
+            loadCount.incrementAndGet();
+            return new StoreResponse.StoreMenuListDTO(store, new ArrayList<>());
+        });
+        StoreMenuCache.Snapshot cached = storeMenuCache.get(storeId, () -> {
+            loadCount.incrementAndGet();
+            return new StoreResponse.StoreMenuListDTO(store, new ArrayList<>());
+        });
+        storeMenuCache.evict(storeId); // 트랜잭션 밖이면 바로 반영
+        StoreMenuCache.Snapshot reloaded = storeMenuCache.get(storeId, () -> {
+            loadCount.incrementAndGet();
+            return new StoreResponse.StoreMenuListDTO(store, new ArrayList<>());
+        });
+        StoreMenuCache.Snapshot otherServer = new StoreMenuCache(new ObjectMapper()).get(storeId, () ->
+                new StoreResponse.StoreMenuListDTO(store, new ArrayList<>()));
+        storeMenuCache.evict(storeId);
+        store.setName("연의양과 본점");
+        StoreMenuCache.Snapshot changed = storeMenuCache.get(storeId, () -> {
+            loadCount.incrementAndGet();
+            return new StoreResponse.StoreMenuListDTO(store, new ArrayList<>());
+        });
+        // then
+        Assertions.assertThat(cached).isSameAs(first);
+        Assertions.assertThat(reloaded).isNotSameAs(first);
+        Assertions.assertThat(loadCount.get()).isEqualTo(3);
+        Assertions.assertThat(reloaded.getETag()).isEqualTo(first.getETag());
+        Assertions.assertThat(otherServer.getETag()).isEqualTo(first.getETag());
+        Assertions.assertThat(changed.getETag()).isNotEqualTo(first.getETag());
+    }
+}
@@ -2,6 +2,7 @@ package shop.project.pathorderserver.store;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import shop.project.pathorderserver.MyRestDoc;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 
@@ -26,6 +29,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class StoreOwnerControllerTest extends MyRestDoc {
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private StoreService storeService;
 
     private static MockHttpSession session;
 
@@ -104,8 +109,9 @@ public class StoreOwnerControllerTest extends MyRestDoc {
         HashMap<String, Object> response = (HashMap<String, Object>) actions.andReturn().getModelAndView().getModel().get("orders");
         actions
                 .andExpect(model().attributeExists("orders"));
-        List<Object> pendingOrderList = (List<Object>) response.get("pendingOrderList");
+        List<StoreResponse.OrdersDTO> pendingOrderList = (List<StoreResponse.OrdersDTO>) response.get("pendingOrderList");
         Assertions.assertThat(pendingOrderList.size()).isEqualTo(5);
+        Assertions.assertThat(pendingOrderList.getFirst().getMenuList()).isNotEmpty();
         List<Object> preparingOrderList = (List<Object>) response.get("preparingOrderList");
         Assertions.assertThat(preparingOrderList.size()).isEqualTo(0);
         List<Object> preparedOrderList = (List<Object>) response.get("preparedOrderList");
@@ -163,6 +169,23 @@ public class StoreOwnerControllerTest extends MyRestDoc {
         // then
     }
 
+    @Test // 매장 관리자 - 주문내역 더보기 (첫 페이지의 nextCursorId 다음부터 JSON 으로)
+    public void order_list_more_test() throws Exception {
+        // given
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        int storeId = sessionStore.getId();
+        StoreResponse.OrderListDTO firstPage = storeService.getOrderList(storeId, null, 5);
+        // when
+        ResultActions actions = mockMvc.perform(MockMvcRequestBuilders.get("/stores/{storeId}/orders/history/more", storeId)
+                .param("cursorId", String.valueOf(firstPage.getNextCursorId()))
+                .param("size", "5")
+                .session(session));
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(jsonPath("$.orderList[0].orderId").value(Matchers.lessThan(firstPage.getNextCursorId())));
+    }
+
     @Test
     public void order_list_sort_by_date_test() throws Exception {
         // given
@@ -180,6 +203,63 @@ public class StoreOwnerControllerTest extends MyRestDoc {
         // then
     }
 
+    @Test // 매장 관리자 - 주문내역 내보내기 (CSV)
+    public void order_export_test() throws Exception {
+        // given
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        int storeId = sessionStore.getId();
+        LocalDate today = LocalDate.now();
+        // when
+        ResultActions actions = mockMvc.perform(MockMvcRequestBuilders.get("/stores/{storeId}/orders/export", storeId)
+                .param("startDate", today.minusDays(7).toString())
+                .param("endDate", today.toString())
+                .session(session));
+        // then
+        String csv = actions.andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", Matchers.containsString("attachment")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = csv.split("\r\n");
+        Assertions.assertThat(lines[0]).endsWith("주문번호,주문일시,주문상태,닉네임,결제금액,메뉴,수량,메뉴금액");
+        Assertions.assertThat(lines[1]).startsWith("1,").contains("수령완료", "찬혁", "아메리카노");
+        Assertions.assertThat(csv).doesNotContain("접수대기");
+    }
+
+    @Test // 매장 관리자 - 주문내역 내보내기, 잘못된 기간은 CSV 파일이 아니라 에러 페이지
+    public void order_export_fail_test() throws Exception {
+        // given
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        int storeId = sessionStore.getId();
+        LocalDate today = LocalDate.now();
+        // when
+        ResultActions actions = mockMvc.perform(MockMvcRequestBuilders.get("/stores/{storeId}/orders/export", storeId)
+                .param("startDate", today.toString())
+                .param("endDate", today.minusDays(1).toString())
+                .session(session));
+        // then
+        actions.andExpect(view().name("error"))
+                .andExpect(header().doesNotExist("Content-Disposition"));
+    }
+
+    @Test // 매장 관리자 - 매출 조회 (서버 시작 시 생성된 집계 사용)
+    public void sales_test() throws Exception {
+        // given
+        SessionStore sessionStore = (SessionStore) session.getAttribute("sessionStore");
+        int storeId = sessionStore.getId();
+        LocalDate today = LocalDate.now();
+        // when
+        ResultActions actions = mockMvc.perform(MockMvcRequestBuilders.get("/stores/{storeId}/sales", storeId)
+                .param("unit", "DAY")
+                .param("startDate", today.minusDays(7).toString())
+                .param("endDate", today.toString())
+                .session(session));
+        // then
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.body.orderCount").value(7))
+                .andExpect(jsonPath("$.body.periodList.length()").value(2))
+                .andExpect(jsonPath("$.body.periodList[0].menuList[0].name").value("아메리카노"))
+                .andDo(document);
+    }
+
     @Test
     public void menu_list_test() throws Exception {
         // given
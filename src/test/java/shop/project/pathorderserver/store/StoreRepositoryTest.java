@@ -1,5 +1,6 @@
 package shop.project.pathorderserver.store;
 
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +13,8 @@ import java.util.List;
 class StoreRepositoryTest {
     @Autowired
     private StoreRepository storeRepository;
+    @Autowired
+    private EntityManager em;
 
     @Test // 매장 목록보기
     void findAll_test() {
@@ -35,14 +38,29 @@ class StoreRepositoryTest {
     }
 
     @Test
-    public void findByUsernameAndPassword_test() {
+    public void findByUsername_test() {
         //given
         String username = "jake1234";
-        String password = "1234";
         //when
-        Store store = storeRepository.findByUsernameAndPassword(username, password)
+        Store store = storeRepository.findByUsername(username)
                 .orElseThrow(() -> new App404("찾을 수 없는 계정"));
         //then
         Assertions.assertThat(store.getUsername()).isEqualTo("jake1234");
     }
-}
\ No newline at end of file
+
+    @Test // 매장 좋아요 수, 리뷰 수 재계산
+    public void recountCounts_test() {
+        // given
+        int storeId = 1;
+        storeRepository.findById(storeId).orElseThrow().setLikeCount(100); // 틀어진 카운터
+        storeRepository.flush();
+        // when
+        storeRepository.recountCounts(storeId);
+        em.clear();
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new App404("찾을 수 없는 매장"));
+        // then
+        Assertions.assertThat(store.getLikeCount()).isEqualTo(3);
+        Assertions.assertThat(store.getReviewCount()).isEqualTo(2);
+    }
+}
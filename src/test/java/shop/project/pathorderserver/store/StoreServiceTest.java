@@ -5,15 +5,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import shop.project.pathorderserver._core.errors.exception.App400;
 import shop.project.pathorderserver._core.errors.exception.App404;
+import shop.project.pathorderserver._core.errors.exception.Web400;
 import shop.project.pathorderserver.menu.Menu;
 import shop.project.pathorderserver.menu.MenuOption;
 import shop.project.pathorderserver.menu.MenuOptionRepository;
 import shop.project.pathorderserver.menu.MenuRepository;
-import shop.project.pathorderserver.order.Order;
-import shop.project.pathorderserver.order.OrderRepository;
 import shop.project.pathorderserver.order.OrderStatus;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,8 +29,24 @@ class StoreServiceTest {
     MenuRepository menuRepository;
     @Autowired
     MenuOptionRepository menuOptionRepository;
-    @Autowired
-    OrderRepository orderRepository;
+
+    @Test // 매장 목록보기 - 반경, 개수 제한
+    void getStoreList_test() {
+        // given
+        int userId = 1;
+        double latitude = 35.15743361723729;
+        double longitude = 129.0604337191542;
+        // when
+        List<StoreResponse.StoreListDTO> nearList = storeService.getStoreList(userId, latitude, longitude, 300, 50);
+        List<StoreResponse.StoreListDTO> limitedList = storeService.getStoreList(userId, latitude, longitude, 5000, 2);
+        // then
+        Assertions.assertThat(nearList).allMatch(storeListDTO -> storeListDTO.getDistance() <= 300);
+        Assertions.assertThat(nearList.getFirst().getId()).isEqualTo(4);
+        Assertions.assertThat(limitedList.size()).isEqualTo(2);
+        Assertions.assertThat(limitedList.get(0).getDistance()).isLessThanOrEqualTo(limitedList.get(1).getDistance());
+        Assertions.assertThatThrownBy(() -> storeService.getStoreList(userId, latitude, longitude, 300, 0)).isInstanceOf(App400.class);
+        Assertions.assertThatThrownBy(() -> storeService.getStoreFeed(userId, latitude, longitude, 300, null, null, -1)).isInstanceOf(App400.class);
+    }
 
     @Test // 매장 관리자 - 회원가입
     void createStore_test() {
@@ -162,6 +179,35 @@ class StoreServiceTest {
         Assertions.assertThat(menuOptions.size()).isEqualTo(3);
     }
 
+    @Test // 매장 관리자 - 메뉴 수정하기, 기존 옵션은 번호 유지
+    void updateMenu_option_diff_test() {
+        // given
+        int menuId = 1;
+        StoreRequest.UpdateMenuDTO reqDTO = new StoreRequest.UpdateMenuDTO();
+        reqDTO.setPrice(3000);
+        StoreRequest.UpdateMenuDTO.MenuOptionDTO ice = new StoreRequest.UpdateMenuDTO.MenuOptionDTO(); // 번호로 매칭
+        ice.setId(1);
+        ice.setName("아이스");
+        ice.setRequired(true);
+        StoreRequest.UpdateMenuDTO.MenuOptionDTO shot = new StoreRequest.UpdateMenuDTO.MenuOptionDTO(); // 이름으로 매칭, 가격 변경
+        shot.setName("샷추가");
+        shot.setPrice(700);
+        StoreRequest.UpdateMenuDTO.MenuOptionDTO cream = new StoreRequest.UpdateMenuDTO.MenuOptionDTO(); // 새 옵션
+        cream.setName("휘핑크림");
+        cream.setPrice(500);
+        reqDTO.setMenuOptions(List.of(ice, shot, cream));
+        // when
+        storeService.updateMenu(menuId, reqDTO);
+        List<MenuOption> menuOptions = menuOptionRepository.findByMenuId(menuId)
+                .orElseThrow(() -> new App404("찾을 수 없는 메뉴 옵션입니다."));
+        // then
+        Assertions.assertThat(menuOptions).extracting(MenuOption::getName).containsExactlyInAnyOrder("아이스", "샷추가", "휘핑크림");
+        Assertions.assertThat(menuOptions).filteredOn(option -> option.getName().equals("아이스"))
+                .extracting(MenuOption::getId).containsExactly(1);
+        Assertions.assertThat(menuOptions).filteredOn(option -> option.getName().equals("샷추가"))
+                .extracting(MenuOption::getId, MenuOption::getPrice).containsExactly(Assertions.tuple(3, 700));
+    }
+
     @Test // 매장 관리자 - 메뉴 삭제하기
     void deleteMenu_test() {
         // given
@@ -235,12 +281,17 @@ class StoreServiceTest {
         // given
         int storeId = 1;
         // when
-        List<Order> orders = orderRepository.findAllByStoreId(storeId)
-                .orElse(new ArrayList<>());
-        StoreResponse.OrderListDTO respDTO = storeService.getOrderList(storeId);
+        StoreResponse.OrderListDTO respDTO = storeService.getOrderList(storeId, null, 20);
+        StoreResponse.OrderListDTO firstPage = storeService.getOrderList(storeId, null, 5);
+        StoreResponse.OrderListDTO nextPage = storeService.getOrderList(storeId, firstPage.getNextCursorId(), 5);
         // then
-        Assertions.assertThat(orders.size()).isEqualTo(12);
         Assertions.assertThat(respDTO.getOrderList().size()).isEqualTo(7); // 수령완료가 된 것만 응답된다.
+        Assertions.assertThat(respDTO.isHasNext()).isFalse();
+        Assertions.assertThat(firstPage.isHasNext()).isTrue();
+        Assertions.assertThat(nextPage.getOrderList().size()).isEqualTo(2);
+        Assertions.assertThat(nextPage.getOrderList().getFirst().getOrderId()).isLessThan(firstPage.getNextCursorId());
+        Assertions.assertThatThrownBy(() -> storeService.getOrderList(storeId, null, 0)).isInstanceOf(Web400.class);
+        Assertions.assertThatThrownBy(() -> storeService.getOrderListByDate(storeId, LocalDate.now(), LocalDate.now(), null, -1)).isInstanceOf(App400.class);
 
     }
 
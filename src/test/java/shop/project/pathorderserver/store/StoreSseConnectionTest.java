@@ -0,0 +1,75 @@
+package shop.project.pathorderserver.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+class StoreSseConnectionTest {
+    List<Runnable> tasks = new ArrayList<>(); // 바로 실행하지 않고 쌓아두는 executor (느린 연결 흉내)
+    Executor executor = tasks::add;
+
+    @Test // 전송 중에 들어온 이벤트는 같은 작업이 이어서 보냄 (연결당 작업 하나)
+    void send_test() {
+        // given
+        StoreSseConnection connection = new StoreSseConnection("tablet", new SseEmitter(), 10, SseOverflowPolicy.DROP_OLDEST, executor);
+        // when
+        connection.send(SseEmitter.event().data("1번 주문 알림"));
+        connection.send(SseEmitter.event().data("2번 주문 알림"));
+        // then
+        Assertions.assertThat(tasks.size()).isEqualTo(1);
+        Assertions.assertThat(connection.getPendingCount()).isEqualTo(2);
+        tasks.getFirst().run();
+        Assertions.assertThat(connection.getPendingCount()).isEqualTo(0);
+    }
+
+    @Test // 대기열이 가득 차면 오래된 이벤트부터 버림
+    void send_drop_oldest_test() {
+        // given
+        StoreSseConnection connection = new StoreSseConnection("tablet", new SseEmitter(), 2, SseOverflowPolicy.DROP_OLDEST, executor);
+        // when
+        for (int i = 1; i <= 5; i++) {
+            connection.send(SseEmitter.event().data(i + "번 주문 알림"));
+        }
+        // then
+        Assertions.assertThat(connection.getPendingCount()).isEqualTo(2);
+        Assertions.assertThat(connection.isClosed()).isFalse();
+    }
+
+    @Test // 대기열이 가득 차면 연결을 끊음
+    void send_disconnect_test() {
+        // given
+        StoreSseConnection connection = new StoreSseConnection("tablet", new SseEmitter(), 2, SseOverflowPolicy.DISCONNECT, executor);
+        // when
+        for (int i = 1; i <= 3; i++) {
+            connection.send(SseEmitter.event().data(i + "번 주문 알림"));
+        }
+        tasks.getFirst().run();
+        // then
+        Assertions.assertThat(connection.isClosed()).isTrue();
+        Assertions.assertThat(connection.getPendingCount()).isEqualTo(0);
+    }
+
+    @Test // 재접속 복구 중에 들어온 이벤트는 복구 이벤트 뒤에 보내고, 복구로 보낸 번호는 다시 보내지 않음
+    void replay_test() {
+        // given
+        StoreSseConnection connection = new StoreSseConnection("tablet", new SseEmitter(), 10, SseOverflowPolicy.DROP_OLDEST, executor);
+        connection.startReplay();
+        connection.send(5, SseEmitter.event().id("5").data("5번 주문 알림")); // 등록 직후 받은 이벤트 (복구 목록에도 있음)
+        connection.send(6, SseEmitter.event().id("6").data("6번 주문 알림"));
+        Map<Long, SseEmitter.SseEventBuilder> missedEvents = new LinkedHashMap<>();
+        missedEvents.put(4L, SseEmitter.event().id("4").data("4번 주문 알림"));
+        missedEvents.put(5L, SseEmitter.event().id("5").data("5번 주문 알림"));
+        // when
+        Assertions.assertThat(connection.getPendingCount()).isEqualTo(0);
+        connection.finishReplay(missedEvents);
+        connection.send(5, SseEmitter.event().id("5").data("5번 주문 알림")); // 늦게 도착한 같은 이벤트
+        // then
+        Assertions.assertThat(connection.getPendingCount()).isEqualTo(3); // 4, 5, 6
+    }
+}
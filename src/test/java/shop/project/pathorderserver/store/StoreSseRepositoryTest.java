@@ -0,0 +1,41 @@
+package shop.project.pathorderserver.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+class StoreSseRepositoryTest {
+    StoreSseRepository storeSseRepository = new StoreSseRepository();
+
+    @Test // 한 매장에 여러 기기 연결
+    void save_test() {
+        // given
+        int storeId = 1;
+        // when
+        storeSseRepository.save(storeId, new StoreSseConnection("tablet", new SseEmitter(), 10, SseOverflowPolicy.DROP_OLDEST, Runnable::run));
+        storeSseRepository.save(storeId, new StoreSseConnection("pos", new SseEmitter(), 10, SseOverflowPolicy.DROP_OLDEST, Runnable::run));
+        storeSseRepository.deleteById(storeId, "tablet");
+        // then
+        Assertions.assertThat(storeSseRepository.findAllByStoreId(storeId))
+                .extracting(StoreSseConnection::getId)
+                .containsExactly("pos");
+    }
+
+    @Test // 재접속 - Last-Event-ID 이후 이벤트만 조회, 최근 100 건까지만 보관
+    void findEventsAfter_test() {
+        // given
+        int storeId = 1;
+        for (long id = 1; id <= 150; id++) {
+            storeSseRepository.saveEvent(storeId, new StoreSseEvent(id, StoreSseEvent.Channel.STORE, storeId, "sse", id + "번 주문 알림"));
+        }
+        // when
+        List<StoreSseEvent> missedEvents = storeSseRepository.findEventsAfter(storeId, 147);
+        List<StoreSseEvent> allEvents = storeSseRepository.findEventsAfter(storeId, 0);
+        // then
+        Assertions.assertThat(missedEvents).extracting(StoreSseEvent::getId).containsExactly(148L, 149L, 150L);
+        Assertions.assertThat(allEvents.size()).isEqualTo(100);
+        Assertions.assertThat(allEvents.getFirst().getId()).isEqualTo(51L);
+    }
+}
@@ -1,23 +1,31 @@
 package shop.project.pathorderserver.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.transaction.annotation.Transactional;
 import shop.project.pathorderserver.MyRestDoc;
 import shop.project.pathorderserver._core.utils.JwtUtil;
+import shop.project.pathorderserver.order.Order;
+import shop.project.pathorderserver.order.OrderRepository;
+import shop.project.pathorderserver.order.OrderStatus;
+import shop.project.pathorderserver.store.StoreSseService;
 
 import java.util.ArrayList;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
@@ -25,6 +33,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 public class UserControllerTest extends MyRestDoc {
     private ObjectMapper om = new ObjectMapper();
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private StoreSseService storeSseService;
 
     private static String jwt;
 
@@ -349,6 +361,48 @@ public class UserControllerTest extends MyRestDoc {
         actions.andDo(MockMvcResultHandlers.print()).andDo(document);
     }
 
+    // 주문하기 재시도(같은 멱등키) - 처음 접수된 주문을 그대로 응답
+    @Test
+    public void order_idempotency_test() throws Exception {
+        //given
+        UserRequest.OrderDTO reqDTO = new UserRequest.OrderDTO();
+        reqDTO.setStoreId(1);
+        reqDTO.setStoreName("연의양과");
+        reqDTO.setCustomerId(1);
+        reqDTO.setCustomerNickname("성재");
+        reqDTO.setRequest("연하게 해주세요.");
+        reqDTO.setOrderMenuList(new ArrayList<>());
+        UserRequest.OrderDTO.OrderMenuDTO orderMenu = new UserRequest.OrderDTO.OrderMenuDTO();
+        orderMenu.setName("아메리카노");
+        orderMenu.setPrice(3600);
+        orderMenu.setQty(1);
+        reqDTO.getOrderMenuList().add(orderMenu);
+        String reqBody = om.writeValueAsString(reqDTO);
+        String idempotencyKey = "order-retry-test-key";
+        ResultActions firstActions = mockMvc.perform(
+                post("/api/users/" + 1 + "/orders")
+                        .header("Authorization", "Bearer " + jwt)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .content(reqBody)
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+        int orderId = JsonPath.read(firstActions.andReturn().getResponse().getContentAsString(), "$.body.id");
+        // when
+        ResultActions actions = mockMvc.perform(
+                post("/api/users/" + 1 + "/orders")
+                        .header("Authorization", "Bearer " + jwt)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .content(reqBody)
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+        // then
+        actions.andExpect(status().isOk());
+        actions.andExpect(jsonPath("$.body.id").value(orderId));
+        actions.andExpect(jsonPath("$.body.orderMenuList.length()").value(1));
+        actions.andExpect(jsonPath("$.body.totalPrice").value("3,600"));
+        actions.andDo(MockMvcResultHandlers.print()).andDo(document);
+    }
+
     // 주문하기 실패(이상한 메뉴)
     @Test
     public void order_fail_test() throws Exception {
@@ -379,6 +433,29 @@ public class UserControllerTest extends MyRestDoc {
         actions.andDo(MockMvcResultHandlers.print()).andDo(document);
     }
 
+    // 주문 상태 알림 구독 - 상태가 바뀌면 order-status 이벤트 수신
+    @Test
+    public void order_status_stream_test() throws Exception {
+        //given
+        int userId = 1;
+        ResultActions actions = mockMvc.perform(
+                get("/api/users/" + userId + "/orders/stream")
+                        .header("Authorization", "Bearer " + jwt)
+        );
+        actions.andExpect(request().asyncStarted());
+        Order order = orderRepository.findById(1).orElseThrow();
+        order.setStatus(OrderStatus.PREPARING);
+        // when
+        storeSseService.createOrderStatusNotification(userId, new UserResponse.OrderStatusDTO(order));
+        // then (전송은 별도 스레드에서 하므로 잠시 기다림)
+        MockHttpServletResponse response = actions.andReturn().getResponse();
+        for (int i = 0; i < 50 && !response.getContentAsString().contains("event:order-status"); i++) {
+            Thread.sleep(20);
+        }
+        Assertions.assertThat(response.getContentAsString()).contains("event:order-status");
+        Assertions.assertThat(response.getContentAsString()).contains("\"status\":\"PREPARING\"");
+    }
+
     // 회원 주문내역 목록보기 성공
     @Test
     public void order_list_test() throws Exception {
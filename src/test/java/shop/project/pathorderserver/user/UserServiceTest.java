@@ -15,6 +15,8 @@ import java.util.List;
 class UserServiceTest {
     @Autowired
     UserService userService;
+    @Autowired
+    UserRepository userRepository;
 
     @Test // 회원가입
     void createUser_test() {
@@ -46,6 +48,21 @@ class UserServiceTest {
         Assertions.assertThat(sessionUser.getUsername()).isEqualTo("user2");
     }
 
+    @Test // 로그인 - 평문 비밀번호는 첫 로그인 때 BCrypt 해시로 교체, 이후에도 같은 비밀번호로 로그인
+    void getUser_rehash_test() {
+        // given
+        UserRequest.LoginDTO reqDTO = new UserRequest.LoginDTO();
+        reqDTO.setUsername("user3");
+        reqDTO.setPassword("1234");
+        // when
+        userService.getUser(reqDTO);
+        UserResponse.LoginDTO respDTO = userService.getUser(reqDTO);
+        // then
+        User user = userRepository.findByUsername("user3").orElseThrow();
+        Assertions.assertThat(user.getPassword()).startsWith("$2a$10$");
+        Assertions.assertThat(JwtUtil.verify(respDTO.getJwt()).getUsername()).isEqualTo("user3");
+    }
+
     @Test // 회원정보 조회
     void getUser2_test() {
         // given